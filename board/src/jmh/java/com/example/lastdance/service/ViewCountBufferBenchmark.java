@@ -0,0 +1,96 @@
+package com.example.lastdance.service;
+
+import com.example.lastdance.cache.PostDetailCache;
+import com.example.lastdance.cache.RemotePostCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 게시글 하나에 조회가 몰릴 때의 조회수 증가 처리량 비교
+ *
+ * - lockedRowHotPost: 이전 방식(행을 잠그고 view_count + 1)의 직렬화 비용만 흉내 낸 기준선. DB 왕복은 빠져 있어 실제 차이는 더 큼
+ * - bufferedHotPost: ViewCountBuffer.increment (DB 접근 없음)
+ * - bufferedWithFlush: 7개 스레드가 증가시키는 동안 1개 스레드가 계속 flush (배치 UPDATE 는 no-op JdbcTemplate)
+ *
+ * 실행: ./gradlew :board:jmh -PjmhIncludes=ViewCountBufferBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ViewCountBufferBenchmark {
+
+    private static final Long HOT_POST_ID = 1L;
+
+    private ViewCountBuffer buffer;
+    private final Object rowLock = new Object();
+    private long lockedViewCount;
+
+    @Setup
+    public void setUp() {
+        PostDetailCache cache = new PostDetailCache(10_000, 60, new SimpleMeterRegistry(),
+                new StaticListableBeanFactory().getBeanProvider(RemotePostCache.class));
+        buffer = new ViewCountBuffer(new NoOpJdbcTemplate(), cache);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void lockedRowHotPost() {
+        synchronized (rowLock) {
+            lockedViewCount = lockedViewCount + 1;
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void bufferedHotPost() {
+        buffer.increment(HOT_POST_ID);
+    }
+
+    @Benchmark
+    @Group("bufferedWithFlush")
+    @GroupThreads(7)
+    public void increment() {
+        buffer.increment(HOT_POST_ID);
+    }
+
+    @Benchmark
+    @Group("bufferedWithFlush")
+    @GroupThreads(1)
+    public void flush() {
+        buffer.flush();
+    }
+
+    // 배치 UPDATE 와 반영 후 조회를 DB 없이 성공한 것으로 처리
+    private static final class NoOpJdbcTemplate extends JdbcTemplate {
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            return new int[batchArgs.size()];
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.lastdance.cache;
+
+import com.example.lastdance.repository.BookmarkRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 사용자별로 북마크한 게시글 ID 를 압축 비트맵(Roaring64Bitmap)으로 들고 있는 로컬 캐시입니다.
+ * 사용자당 한 번의 쿼리로 비트맵을 만들어 두면, 목록 페이지의 "별 표시" 여부는 게시글마다 O(1) 비트 조회로 끝납니다.
+ *
+ * 게시글 ID 는 long 이므로 Integer.MAX_VALUE 를 넘는 ID 도 잘리거나 예외 없이 그대로 담기는 64비트 비트맵을 씁니다.
+ * 비트맵은 불변으로 취급하고, 북마크 추가/삭제 시에는 복사본을 수정해 교체합니다. (읽기 쪽은 잠금 없음)
+ * 트랜잭션 안에서 호출되면 커밋 이후에 반영하므로, 롤백된 변경이 비트맵에 남지 않습니다.
+ * 커밋 전 행으로 적재 중인 비트맵이 있으면 Caffeine 이 적재가 끝날 때까지 기다린 뒤 변경을 덧씌웁니다.
+ * 다른 인스턴스에서의 변경은 board.bookmark-cache.ttl-seconds 이후 다시 로딩될 때 반영됩니다.
+ */
+@Component
+public class BookmarkBitmapCache {
+
+    private static final String CACHE_NAME = "bookmarkBitmap";
+
+    private final BookmarkRepository bookmarkRepository;
+    private final Cache<String, Roaring64Bitmap> bitmaps;
+
+    public BookmarkBitmapCache(BookmarkRepository bookmarkRepository,
+                               @Value("${board.bookmark-cache.max-users:50000}") long maxUsers,
+                               @Value("${board.bookmark-cache.ttl-seconds:300}") long ttlSeconds,
+                               MeterRegistry meterRegistry) {
+        this.bookmarkRepository = bookmarkRepository;
+        this.bitmaps = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, bitmaps, CACHE_NAME);
+    }
+
+    // 사용자의 북마크 비트맵 (없으면 DB 에서 한 번에 로딩)
+    public Roaring64Bitmap get(String uEmail) {
+        return bitmaps.get(uEmail, this::load);
+    }
+
+    public boolean contains(String uEmail, Long postId) {
+        return get(uEmail).contains(postId);
+    }
+
+    // 북마크 추가 반영 (캐시에 로딩된 사용자만)
+    public void add(String uEmail, Collection<Long> postIds) {
+        afterCommit(() -> bitmaps.asMap().computeIfPresent(uEmail, (email, bitmap) -> {
+            Roaring64Bitmap copy = bitmap.clone();
+            postIds.forEach(copy::addLong);
+            return copy;
+        }));
+    }
+
+    // 북마크 삭제 반영 (캐시에 로딩된 사용자만)
+    public void remove(String uEmail, Collection<Long> postIds) {
+        afterCommit(() -> bitmaps.asMap().computeIfPresent(uEmail, (email, bitmap) -> {
+            Roaring64Bitmap copy = bitmap.clone();
+            postIds.forEach(copy::removeLong);
+            return copy;
+        }));
+    }
+
+    private Roaring64Bitmap load(String uEmail) {
+        Roaring64Bitmap bitmap = new Roaring64Bitmap();
+        bookmarkRepository.findPostIdsByUEmail(uEmail).forEach(bitmap::addLong);
+        bitmap.runOptimize();
+        return bitmap;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
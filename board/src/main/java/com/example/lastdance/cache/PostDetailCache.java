@@ -0,0 +1,129 @@
+package com.example.lastdance.cache;
+
+import com.example.lastdance.dto.PostResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세(PostResponseDto) read-through 캐시입니다.
+ *
+ * 1차: 인스턴스 로컬 Caffeine 캐시 (크기 제한, W-TinyLFU 교체 정책)
+ * 2차: Redis (선택, board.post-cache.redis.enabled=true), 수정/삭제 시 pub/sub 으로 다른 인스턴스의 1차 캐시도 무효화
+ *
+ * 캐시에는 DB 에 반영된 조회수만 담고, 아직 반영되지 않은 조회수는 읽을 때 PostService 가 더합니다.
+ * 조회수 flush 후에는 2차 캐시의 조회수를 갱신하고 커밋된 조회수를 pub/sub 으로 알려, 어느 계층도 이전 조회수로 되돌아가지 않게 합니다.
+ * hit/miss/eviction 지표는 cache.* (name=postDetail) 으로 Actuator 에 노출됩니다.
+ */
+@Component
+public class PostDetailCache {
+
+    private static final String CACHE_NAME = "postDetail";
+
+    private final Cache<Long, PostResponseDto> local;
+    private final RemotePostCache remote;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    public PostDetailCache(@Value("${board.post-cache.max-size:10000}") long maxSize,
+                           @Value("${board.post-cache.ttl-seconds:60}") long ttlSeconds,
+                           MeterRegistry meterRegistry,
+                           ObjectProvider<RemotePostCache> remoteProvider) {
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.remote = remoteProvider.getIfAvailable();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, CACHE_NAME);
+        this.remoteHits = Counter.builder("post.detail.cache.remote").tag("result", "hit").register(meterRegistry);
+        this.remoteMisses = Counter.builder("post.detail.cache.remote").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 게시글을 찾고, 없으면 loader 로 읽어 캐시에 채웁니다.
+     * 같은 키에 대한 동시 요청은 로컬 캐시에서 한 번만 로딩됩니다.
+     */
+    public PostResponseDto get(Long postId, Supplier<PostResponseDto> loader) {
+        return local.get(postId, id -> loadThrough(id, loader));
+    }
+
+    /**
+     * 게시글 수정/삭제 후 캐시를 무효화합니다.
+     * 트랜잭션 안이면 커밋 이후에 무효화해서, 커밋 전 값이 다시 캐시에 들어가는 것을 막습니다.
+     */
+    public void invalidate(Long postId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(postId);
+                }
+            });
+        } else {
+            evict(postId);
+        }
+    }
+
+    // 다른 인스턴스의 무효화 알림 수신 시 로컬 캐시만 비움
+    public void invalidateLocal(Long postId) {
+        local.invalidate(postId);
+    }
+
+    /**
+     * 조회수 flush 후 캐시된 조회수를 커밋된 DB 값으로 맞춥니다. (증가분을 더하지 않고 더 큰 값으로 덮어씀)
+     * 2차 캐시가 있으면 상세 항목은 그대로 두고 조회수만 갱신한 뒤, 다른 인스턴스에도 값을 알립니다.
+     */
+    public void applyViewCounts(Map<Long, Integer> viewCounts) {
+        if (viewCounts.isEmpty()) {
+            return;
+        }
+        applyViewCountsLocal(viewCounts);
+        if (remote != null) {
+            remote.syncViewCounts(viewCounts);
+        }
+    }
+
+    // 조회수는 줄지 않으므로 더 큰 값만 받아들임 (다른 인스턴스의 알림이 늦게 도착하거나, 그 사이 더 새로운 값으로 다시 적재된 경우)
+    public void applyViewCountsLocal(Map<Long, Integer> viewCounts) {
+        viewCounts.forEach((postId, viewCount) -> local.asMap().computeIfPresent(postId,
+                (id, post) -> post.getViewCount() != null && post.getViewCount() >= viewCount
+                        ? post
+                        : post.toBuilder().viewCount(viewCount).build()));
+    }
+
+    private PostResponseDto loadThrough(Long postId, Supplier<PostResponseDto> loader) {
+        if (remote != null) {
+            Optional<PostResponseDto> cached = remote.get(postId);
+            if (cached.isPresent()) {
+                remoteHits.increment();
+                return cached.get();
+            }
+            remoteMisses.increment();
+        }
+        PostResponseDto loaded = loader.get();
+        if (remote != null) {
+            remote.put(loaded);
+        }
+        return loaded;
+    }
+
+    private void evict(Long postId) {
+        local.invalidate(postId);
+        if (remote != null) {
+            remote.evict(postId);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.lastdance.cache;
+
+import com.example.lastdance.dto.PostResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * Redis 기반 게시글 상세 2차 캐시입니다.
+ * Redis 장애 시에는 캐시가 없는 것처럼 동작하고(로그만 남김) DB 조회로 넘어갑니다.
+ *
+ * 조회수는 자주 바뀌므로 상세 JSON 과 별도의 키에 커밋된 값만 두고, 읽을 때 둘 중 큰 값을 씁니다.
+ * 조회수 flush 때는 이 키만 갱신하므로, 많이 읽히는 게시글의 상세 항목도 2차 캐시에 그대로 남습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.post-cache.redis.enabled", havingValue = "true")
+public class RedisPostCache implements RemotePostCache {
+
+    // 게시글 상세 캐시 무효화 채널 (메시지 본문: 게시글 ID)
+    public static final String INVALIDATION_CHANNEL = "board:post-detail:invalidate";
+    // 커밋된 조회수 알림 채널 (메시지 본문: "게시글ID:조회수,게시글ID:조회수,...")
+    public static final String VIEW_COUNT_CHANNEL = "board:post-detail:views";
+
+    private static final String KEY_PREFIX = "board:post-detail:";
+    private static final String VIEW_COUNT_KEY_PREFIX = "board:post-detail-views:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${board.post-cache.redis.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Override
+    public Optional<PostResponseDto> get(Long postId) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(KEY_PREFIX + postId, VIEW_COUNT_KEY_PREFIX + postId));
+            String json = values == null ? null : values.get(0);
+            if (json == null) {
+                return Optional.empty();
+            }
+            PostResponseDto post = objectMapper.readValue(json, PostResponseDto.class);
+            String viewCount = values.get(1);
+            if (viewCount != null && (post.getViewCount() == null || post.getViewCount() < Integer.parseInt(viewCount))) {
+                post = post.toBuilder().viewCount(Integer.parseInt(viewCount)).build();
+            }
+            return Optional.of(post);
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("게시글 캐시(Redis) 조회 실패: {}", postId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(PostResponseDto post) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + post.getId(), objectMapper.writeValueAsString(post),
+                    Duration.ofSeconds(ttlSeconds));
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("게시글 캐시(Redis) 저장 실패: {}", post.getId(), e);
+        }
+    }
+
+    @Override
+    public void evict(Long postId) {
+        try {
+            redisTemplate.delete(List.of(KEY_PREFIX + postId, VIEW_COUNT_KEY_PREFIX + postId));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(postId));
+        } catch (RuntimeException e) {
+            log.warn("게시글 캐시(Redis) 무효화 실패: {}", postId, e);
+        }
+    }
+
+    @Override
+    public void syncViewCounts(Map<Long, Integer> viewCounts) {
+        try {
+            // 상세 항목과 같은 TTL 로 커밋된 조회수만 갱신 (파이프라인 한 번)
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                viewCounts.forEach((postId, viewCount) ->
+                        stringConnection.setEx(VIEW_COUNT_KEY_PREFIX + postId, ttlSeconds, String.valueOf(viewCount)));
+                return null;
+            });
+            redisTemplate.convertAndSend(VIEW_COUNT_CHANNEL, encodeViewCounts(viewCounts));
+        } catch (RuntimeException e) {
+            log.warn("게시글 캐시(Redis) 조회수 동기화 실패 ({}건)", viewCounts.size(), e);
+        }
+    }
+
+    public static String encodeViewCounts(Map<Long, Integer> viewCounts) {
+        StringJoiner joiner = new StringJoiner(",");
+        viewCounts.forEach((postId, viewCount) -> joiner.add(postId + ":" + viewCount));
+        return joiner.toString();
+    }
+
+    public static Map<Long, Integer> decodeViewCounts(String message) {
+        Map<Long, Integer> viewCounts = new HashMap<>();
+        for (String entry : message.split(",")) {
+            int separator = entry.indexOf(':');
+            if (separator > 0) {
+                viewCounts.put(Long.valueOf(entry.substring(0, separator)), Integer.valueOf(entry.substring(separator + 1)));
+            }
+        }
+        return viewCounts;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.lastdance.cache;
+
+import com.example.lastdance.dto.PostResponseDto;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게시글 상세 캐시의 인스턴스 간 공유 2차 캐시입니다. (board.post-cache.redis.enabled=true 일 때만 존재)
+ */
+public interface RemotePostCache {
+
+    Optional<PostResponseDto> get(Long postId);
+
+    void put(PostResponseDto post);
+
+    // 2차 캐시에서 삭제하고 다른 인스턴스에 로컬 캐시 무효화를 알림
+    void evict(Long postId);
+
+    // 조회수 flush 후 2차 캐시의 커밋된 조회수를 갱신하고(상세 항목은 유지), 다른 인스턴스에 알림
+    void syncViewCounts(Map<Long, Integer> viewCounts);
+}
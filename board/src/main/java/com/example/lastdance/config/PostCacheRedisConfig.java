@@ -0,0 +1,38 @@
+package com.example.lastdance.config;
+
+import com.example.lastdance.cache.PostDetailCache;
+import com.example.lastdance.cache.RedisPostCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시글 상세 캐시 무효화 pub/sub 구독 설정 (board.post-cache.redis.enabled=true 일 때만)
+ * 다른 인스턴스에서 게시글이 수정/삭제되면 이 인스턴스의 로컬 캐시도 비우고,
+ * 다른 인스턴스가 조회수를 반영하면 로컬 캐시의 조회수도 그 값으로 맞춥니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.post-cache.redis.enabled", havingValue = "true")
+public class PostCacheRedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer postCacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                       PostDetailCache postDetailCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> postDetailCache.invalidateLocal(
+                        Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(RedisPostCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> postDetailCache.applyViewCountsLocal(
+                        RedisPostCache.decodeViewCounts(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(RedisPostCache.VIEW_COUNT_CHANNEL));
+        return container;
+    }
+}
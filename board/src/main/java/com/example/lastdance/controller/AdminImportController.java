@@ -0,0 +1,59 @@
+package com.example.lastdance.controller;
+
+import com.example.lastdance.dto.BulkImportResult;
+import com.example.lastdance.dto.ImportJobStatus;
+import com.example.lastdance.service.BulkImportService;
+import com.example.lastdance.service.ImportJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/boards/admin/import")
+@RequiredArgsConstructor
+public class AdminImportController {
+
+    private final ImportJobService importJobService;
+    private final BulkImportService bulkImportService;
+
+    /**
+     * 서버 import 디렉터리의 NDJSON 파일 일괄 등록 작업 시작
+     * ex) POST /api/boards/admin/import?type=posts&file=posts.ndjson
+     */
+    @PostMapping
+    public ResponseEntity<ImportJobStatus> submit(@RequestParam String type, @RequestParam String file) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importJobService.submit(type, file));
+    }
+
+    /**
+     * 일괄 등록 작업 진행 상황 조회 (배치마다 갱신)
+     * ex) GET /api/boards/admin/import/{jobId}
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobStatus> get(@PathVariable String jobId) {
+        return ResponseEntity.ok(importJobService.get(jobId));
+    }
+
+    /**
+     * 게시글 일괄 생성 - 요청 본문은 한 줄에 게시글 하나인 NDJSON
+     * 작성자(authorId, nickname)를 본문 값 그대로 저장하므로 관리자 경로에만 둠
+     * ex) POST /api/boards/admin/import/posts  (Content-Type: application/x-ndjson)
+     *     {"boardId":2,"title":"제목","content":"본문","nickname":"작성자","authorId":1}
+     */
+    @PostMapping("/posts")
+    public ResponseEntity<BulkImportResult> importPosts(InputStream body) {
+        return ResponseEntity.ok(bulkImportService.importPosts(body, progress -> { }));
+    }
+
+    /**
+     * 댓글 일괄 생성 - 요청 본문은 한 줄에 댓글 하나인 NDJSON
+     * ex) POST /api/boards/admin/import/comments  {"postId":10,"authorId":3,"content":"댓글 내용"}
+     */
+    @PostMapping("/comments")
+    public ResponseEntity<BulkImportResult> importComments(InputStream body) {
+        return ResponseEntity.ok(bulkImportService.importComments(body, progress -> { }));
+    }
+}
@@ -3,11 +3,10 @@ package com.example.lastdance.controller;
 import com.example.lastdance.entity.Board;
 import com.example.lastdance.service.BoardService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/boards")
 @RequiredArgsConstructor
@@ -20,9 +19,14 @@ public class BoardController {
         return ResponseEntity.ok(boardService.create(board));
     }
 
+    // 미리 직렬화해 둔 게시판 목록 JSON 을 ETag 와 함께 반환 (If-None-Match 가 같으면 Spring 이 304 로 응답)
     @GetMapping
-    public ResponseEntity<List<Board>> getAll() {
-        return ResponseEntity.ok(boardService.getAll());
+    public ResponseEntity<byte[]> getAll() {
+        BoardService.BoardSnapshot snapshot = boardService.getSnapshot();
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.json());
     }
 
     @GetMapping("/{id}")
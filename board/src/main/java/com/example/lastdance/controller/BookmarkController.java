@@ -1,5 +1,7 @@
 package com.example.lastdance.controller;
 
+import com.example.lastdance.dto.BookmarkFeedItem;
+import com.example.lastdance.dto.CursorPageResponse;
 import com.example.lastdance.entity.Bookmark;
 import com.example.lastdance.service.BookmarkService;
 import lombok.RequiredArgsConstructor;
@@ -7,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/boards/bookmarks")
@@ -25,25 +28,32 @@ public class BookmarkController {
         return ResponseEntity.ok(result);
     }
 
-    // 북마크 추가 (import)
+    // 여러 게시글의 상태 일괄 확인 (목록 페이지용, 본문: [1, 2, 3] → {"1": true, "2": false, ...})
+    @PostMapping("/status:batch")
+    public ResponseEntity<Map<Long, Boolean>> getStatuses(
+            @RequestParam String uEmail,
+            @RequestBody List<Long> postIds
+    ) {
+        return ResponseEntity.ok(bookmarkService.getStatuses(uEmail, postIds));
+    }
+
+    // 북마크 추가 (import) - postId 를 여러 개 넘기면 한 트랜잭션으로 일괄 추가 (postId=1&postId=2 또는 postId=1,2)
     @PostMapping("/import")
     public ResponseEntity<Void> importBookmark(
             @RequestParam String uEmail,
-            @RequestParam Long postId
+            @RequestParam List<Long> postId
     ) {
-        System.out.println("🔥 uEmail: " + uEmail);
-        System.out.println("🔥 postId: " + postId);
-        bookmarkService.importBookmark(uEmail, postId);
+        bookmarkService.importBookmarks(uEmail, postId);
         return ResponseEntity.ok().build();
     }
 
-    // 북마크 삭제 (delete)
+    // 북마크 삭제 (delete) - postId 를 여러 개 넘기면 한 트랜잭션으로 일괄 삭제
     @DeleteMapping("/delete")
     public ResponseEntity<Void> deleteBookmark(
             @RequestParam String uEmail,
-            @RequestParam Long postId
+            @RequestParam List<Long> postId
     ) {
-        bookmarkService.deleteBookmark(uEmail, postId);
+        bookmarkService.deleteBookmarks(uEmail, postId);
         return ResponseEntity.ok().build();
     }
 
@@ -52,4 +62,15 @@ public class BookmarkController {
     public ResponseEntity<List<Bookmark>> getUserBookmarks(@RequestParam String uEmail) {
         return ResponseEntity.ok(bookmarkService.getUserBookmarks(uEmail));
     }
-}
\ No newline at end of file
+
+    // 유저의 북마크 피드 (게시글 요약 포함, 최신 북마크순 커서 페이징)
+    // ex) GET /api/boards/bookmarks/feed?uEmail=a@b.com&size=20 → 다음 페이지는 &after={nextCursor}
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPageResponse<BookmarkFeedItem>> getFeed(
+            @RequestParam String uEmail,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(bookmarkService.getFeed(uEmail, after, size));
+    }
+}
@@ -6,8 +6,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import com.example.lastdance.dto.CommentResponseDto;
+import com.example.lastdance.dto.CursorPageResponse;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 댓글 관련 HTTP 요청을 처리하는 REST 컨트롤러입니다.
@@ -66,4 +68,35 @@ public class CommentController {
     public ResponseEntity<List<CommentResponseDto>> getByPostId(@RequestParam Long postId) {
         return ResponseEntity.ok(commentService.getByPostId(postId));
     }
+
+    /**
+     * 특정 게시글에 대한 댓글 목록 커서 페이징 조회 (after 파라미터가 있으면 이 핸들러가 처리)
+     * 첫 페이지는 after 를 빈 값으로, 이후에는 응답의 nextCursor 를 그대로 넘깁니다.
+     * ex) GET /api/boards/comments?postId=1&after=&size=50
+     *
+     * @param postId 조회할 게시글 ID
+     * @param after  이전 페이지의 마지막 댓글 ID
+     * @param size   페이지 크기
+     * @return 댓글 DTO 커서 페이지
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPageResponse<CommentResponseDto>> getByPostIdCursor(
+            @RequestParam Long postId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(commentService.getByPostId(postId, after, size));
+    }
+
+    /**
+     * 여러 게시글의 댓글을 한 번에 조회
+     * ex) GET /api/boards/comments/bulk?postIds=1,2,3
+     *
+     * @param postIds 조회할 게시글 ID 목록
+     * @return 게시글 ID 별 댓글 목록
+     */
+    @GetMapping("/bulk")
+    public ResponseEntity<Map<Long, List<CommentResponseDto>>> getByPostIds(@RequestParam List<Long> postIds) {
+        return ResponseEntity.ok(commentService.getByPostIds(postIds));
+    }
 }
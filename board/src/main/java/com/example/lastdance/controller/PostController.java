@@ -1,14 +1,23 @@
 package com.example.lastdance.controller;
 
 import com.example.lastdance.entity.Post;
+import com.example.lastdance.service.CommentService;
 import com.example.lastdance.service.PostService;
+import com.example.lastdance.dto.CursorPageResponse;
 import com.example.lastdance.dto.PostResponseDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -16,7 +25,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostController {
 
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     private final PostService postService;
+    private final CommentService commentService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 게시글 생성 - 특정 게시판(boardId)에 속한 게시글 작성
@@ -57,20 +70,49 @@ public class PostController {
 
     /**
      * 특정 게시판(boardId)에 속한 모든 게시글 조회 (페이징 없이 전체 조회)
+     * 결과를 청크 단위로 읽어 바로 응답에 흘려보내므로 게시판 크기와 무관하게 힙 사용량이 일정합니다.
+     * 기본은 JSON 배열이며, Accept: application/x-ndjson 이면 한 줄에 게시글 하나씩 NDJSON 으로 보냅니다.
      * ex) GET /api/boards/posts?boardId=1
      */
     @GetMapping
-    public ResponseEntity<List<PostResponseDto>> getAllByBoard(@RequestParam Long boardId) {
-        return ResponseEntity.ok(postService.getAllByBoard(boardId));
+    public ResponseEntity<StreamingResponseBody> getAllByBoard(
+            @RequestParam Long boardId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        boolean ndjson = accept != null && accept.contains(APPLICATION_NDJSON);
+        StreamingResponseBody body = out -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            if (ndjson) {
+                generator.setRootValueSeparator(null);
+                postService.streamAllByBoard(boardId, dto -> {
+                    write(generator, dto);
+                    writeRaw(generator, "\n");
+                });
+            } else {
+                generator.writeStartArray();
+                postService.streamAllByBoard(boardId, dto -> write(generator, dto));
+                generator.writeEndArray();
+            }
+            generator.flush();
+        };
+        MediaType contentType = ndjson ? MediaType.parseMediaType(APPLICATION_NDJSON) : MediaType.APPLICATION_JSON;
+        return ResponseEntity.ok().contentType(contentType).body(body);
     }
 
     /**
      * 전체 게시글을 페이지 단위로 조회
-     * ex) GET /api/boards/posts/paged?page=0&size=10
+     * withComments=true 이면 댓글 수와 게시글당 최신 댓글(latestComments 개)을 함께 담아 보냅니다.
+     * ex) GET /api/boards/posts/paged?page=0&size=10&withComments=true&latestComments=3
      */
     @GetMapping("/paged")
-    public ResponseEntity<Page<PostResponseDto>> getAllPaged(Pageable pageable) {
-        return ResponseEntity.ok(postService.getAllPaged(pageable));
+    public ResponseEntity<Page<PostResponseDto>> getAllPaged(
+            Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean withComments,
+            @RequestParam(defaultValue = "0") int latestComments
+    ) {
+        Page<PostResponseDto> page = postService.getAllPaged(pageable);
+        fillComments(page.getContent(), withComments, latestComments);
+        return ResponseEntity.ok(page);
     }
 
     /**
@@ -78,16 +120,60 @@ public class PostController {
      * ex) GET /api/boards/posts/all?page=0&size=10
      */
     @GetMapping("/all")
-    public ResponseEntity<Page<PostResponseDto>> getAllPosts(Pageable pageable) {
-        return ResponseEntity.ok(postService.getAllPosts(pageable));
+    public ResponseEntity<Page<PostResponseDto>> getAllPosts(
+            Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean withComments,
+            @RequestParam(defaultValue = "0") int latestComments
+    ) {
+        Page<PostResponseDto> page = postService.getAllPosts(pageable);
+        fillComments(page.getContent(), withComments, latestComments);
+        return ResponseEntity.ok(page);
     }
 
     @GetMapping("/by-board/{boardId}")
     public ResponseEntity<Page<PostResponseDto>> getPostsByBoard(
             @PathVariable Long boardId,
-            Pageable pageable
+            Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean withComments,
+            @RequestParam(defaultValue = "0") int latestComments
+    ) {
+        Page<PostResponseDto> page = postService.getPostsByBoard(boardId, pageable);
+        fillComments(page.getContent(), withComments, latestComments);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * 전체 게시글 커서 페이징 (after 파라미터가 있으면 offset 페이징 대신 이 핸들러가 처리)
+     * 첫 페이지는 after 를 빈 값으로, 이후에는 응답의 nextCursor 를 그대로 넘깁니다.
+     * ex) GET /api/boards/posts/paged?after=&size=10
+     */
+    @GetMapping(value = {"/paged", "/all"}, params = "after")
+    public ResponseEntity<CursorPageResponse<PostResponseDto>> getAllByCursor(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withComments,
+            @RequestParam(defaultValue = "0") int latestComments
+    ) {
+        CursorPageResponse<PostResponseDto> page = postService.getPostsByCursor(null, after, size);
+        fillComments(page.getContent(), withComments, latestComments);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * 게시판별 게시글 커서 페이징
+     * ex) GET /api/boards/posts/by-board/1?after={nextCursor}&size=10
+     */
+    @GetMapping(value = "/by-board/{boardId}", params = "after")
+    public ResponseEntity<CursorPageResponse<PostResponseDto>> getPostsByBoardCursor(
+            @PathVariable Long boardId,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withComments,
+            @RequestParam(defaultValue = "0") int latestComments
     ) {
-        return ResponseEntity.ok(postService.getPostsByBoard(boardId, pageable));
+        CursorPageResponse<PostResponseDto> page = postService.getPostsByCursor(boardId, after, size);
+        fillComments(page.getContent(), withComments, latestComments);
+        return ResponseEntity.ok(page);
     }
 
     @GetMapping("/{id}/view")
@@ -95,5 +181,28 @@ public class PostController {
         return ResponseEntity.ok(postService.getByIdAndIncreaseView(id));
     }
 
+    // 목록 응답에 댓글 수/최신 댓글을 일괄 조회해 채움 (게시글마다 댓글 API 를 호출하지 않도록)
+    private void fillComments(List<PostResponseDto> posts, boolean withComments, int latestComments) {
+        if (withComments) {
+            commentService.fillCommentStats(posts, latestComments);
+        }
+    }
+
+    // 스트리밍 응답에서 게시글 하나를 직렬화 (람다 안에서 쓰기 위해 IOException 을 감쌈)
+    private void write(JsonGenerator generator, Object value) {
+        try {
+            objectMapper.writeValue(generator, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeRaw(JsonGenerator generator, String raw) {
+        try {
+            generator.writeRaw(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
 }
@@ -1,22 +1,35 @@
-//package com.example.lastdance.controller;
-//
-//import com.example.lastdance.search.PostDocument;
-//import com.example.lastdance.search.PostSearchRepository;
-//import lombok.RequiredArgsConstructor;
-//import org.springframework.web.bind.annotation.*;
-//
-//import java.util.List;
-//
-//@RestController
-//@RequestMapping("/api/search")
-//@RequiredArgsConstructor
-//public class PostSearchController {
-//
-//    private final PostSearchRepository postSearchRepository;
-//
-//    @GetMapping
-//    public List<PostDocument> search(@RequestParam String keyword) {
-//        return postSearchRepository.findByTitleContainingOrContentContaining(keyword, keyword);
-//    }
-//
-//}
+package com.example.lastdance.controller;
+
+import com.example.lastdance.dto.PostSearchResult;
+import com.example.lastdance.search.SearchIndexer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class PostSearchController {
+
+    // 검색 결과 한 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final SearchIndexer searchIndexer;
+
+    /**
+     * 게시글 제목/본문/닉네임 검색 (점수순)
+     * ex) GET /api/search?keyword=스프링&page=0&size=10
+     */
+    @GetMapping
+    public ResponseEntity<Page<PostSearchResult>> search(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        return ResponseEntity.ok(searchIndexer.search(keyword, pageable));
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.example.lastdance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 북마크 피드 항목입니다. 북마크와 게시글 요약을 한 번의 JOIN 쿼리로 조회하는 JPQL 생성자 프로젝션입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class BookmarkFeedItem {
+
+    private Long bookmarkId;
+    private LocalDateTime bookmarkedAt;
+    private Long postId;
+    private String title;
+    private String preview; // 본문 앞부분 (board.post.preview-length 글자)
+    private String nickname;
+    private LocalDateTime createdAt;
+    private Long boardId;
+    private Integer viewCount;
+}
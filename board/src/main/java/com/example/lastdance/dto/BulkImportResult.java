@@ -0,0 +1,17 @@
+package com.example.lastdance.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 일괄 등록 진행 상황/결과입니다. 배치가 하나 끝날 때마다 갱신됩니다.
+ */
+@Getter
+@Builder
+public class BulkImportResult {
+
+    private long inserted;       // 지금까지 저장된 행 수
+    private int batches;         // 지금까지 커밋된 배치 수
+    private long elapsedMs;      // 경과 시간
+    private double rowsPerSecond; // 초당 저장 행 수
+}
@@ -0,0 +1,22 @@
+package com.example.lastdance.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 일괄 등록 NDJSON 의 한 줄입니다.
+ * ex) {"postId":10,"authorId":3,"content":"댓글 내용"}
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CommentImportRow {
+
+    private Long postId;
+    private Long authorId;
+    private String content;
+    private LocalDateTime createdAt; // 없으면 등록 시각
+}
@@ -1,5 +1,6 @@
 package com.example.lastdance.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -10,8 +11,10 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Builder
+@AllArgsConstructor // JPQL 생성자 프로젝션(CommentRepository)에서 사용
 public class CommentResponseDto {
 
+    private Long id;
     private Long postId;
     private Long authorId;
     private String content;
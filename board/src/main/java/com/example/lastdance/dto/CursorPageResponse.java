@@ -0,0 +1,21 @@
+package com.example.lastdance.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답입니다.
+ * 전체 건수(count) 를 계산하지 않으므로 totalElements/totalPages 가 없고,
+ * 다음 페이지는 nextCursor 를 그대로 after 파라미터로 넘겨 조회합니다.
+ */
+@Getter
+@Builder
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 마지막 페이지면 null
+}
@@ -0,0 +1,31 @@
+package com.example.lastdance.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 일괄 등록 작업의 상태입니다. 작업 스레드가 배치마다 progress 를 갱신합니다.
+ */
+@Getter
+@Setter
+public class ImportJobStatus {
+
+    public enum State { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String id;
+    private final String type;   // posts | comments
+    private final String file;
+    private volatile State state = State.QUEUED;
+    private volatile BulkImportResult progress;
+    private volatile String error;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public ImportJobStatus(String id, String type, String file) {
+        this.id = id;
+        this.type = type;
+        this.file = file;
+    }
+}
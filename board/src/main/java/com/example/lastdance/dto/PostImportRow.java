@@ -0,0 +1,22 @@
+package com.example.lastdance.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 게시글 일괄 등록 NDJSON 의 한 줄입니다.
+ * ex) {"boardId":2,"title":"제목","content":"본문","nickname":"작성자","authorId":1}
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostImportRow {
+
+    private Long boardId;
+    private String title;
+    private String content;
+    private Long authorId;
+    private String nickname;
+    private Integer viewCount;
+}
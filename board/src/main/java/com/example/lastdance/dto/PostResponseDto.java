@@ -1,14 +1,20 @@
 package com.example.lastdance.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor // Redis 2차 캐시에서 JSON 역직렬화에 필요
 public class PostResponseDto {
 
     private Long id;
@@ -20,4 +26,11 @@ public class PostResponseDto {
     private LocalDateTime updatedAt;
     private Long boardId;
     private Integer viewCount;
+
+    // 목록 조회 시 withComments=true 일 때만 채워짐 (그 외에는 응답에서 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long commentCount;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<CommentResponseDto> latestComments;
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.example.lastdance.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 검색 결과 항목입니다. 본문은 색인에만 쓰고 저장하지 않으므로 상세 내용은 게시글 조회 API 로 가져옵니다.
+ */
+@Getter
+@Builder
+public class PostSearchResult {
+
+    private Long id;
+    private String title;
+    private String nickname;
+    private Long boardId;
+    private LocalDateTime createdAt;
+    private float score; // 검색 점수 (BM25)
+}
@@ -0,0 +1,25 @@
+package com.example.lastdance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 JPQL 생성자 프로젝션입니다.
+ * 본문(TEXT) 전체와 Board 엔티티를 읽지 않고, 목록에 필요한 컬럼과 본문 미리보기만 조회합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostSummary {
+
+    private Long id;
+    private String title;
+    private String preview; // 본문 앞부분 (board.post.preview-length 글자)
+    private Long authorId;
+    private String nickname;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long boardId;
+    private Integer viewCount;
+}
@@ -3,8 +3,17 @@ package com.example.lastdance.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "bookmark")
+@Table(name = "bookmark", uniqueConstraints = {
+        // 같은 사용자가 같은 게시글을 중복 북마크하지 않도록 (u_email, p_id) 유니크 인덱스
+        // 기존 중복 행이 있으면 먼저 정리해야 생성됩니다:
+        // DELETE b1 FROM bookmark b1 JOIN bookmark b2 ON b1.u_email = b2.u_email AND b1.p_id = b2.p_id AND b1.m_id > b2.m_id;
+        @UniqueConstraint(name = "uk_bookmark_user_post", columnNames = {"u_email", "p_id"})
+}, indexes = {
+        @Index(name = "idx_bookmark_user_mid", columnList = "u_email, m_id") // 사용자별 북마크 피드 (최신순 커서 페이징)
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,4 +30,12 @@ public class Bookmark {
 
     @Column(name = "p_id", nullable = false)
     private Long pId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt; // 북마크한 시각
+
+    @PrePersist
+    public void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
 }
@@ -11,6 +11,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_comment_post_id", columnList = "post_id, c_id") // 게시글별 댓글 조회/커서 페이징
+})
 public class Comment {
 
     @Id
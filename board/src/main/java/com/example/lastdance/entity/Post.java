@@ -13,6 +13,11 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Access(AccessType.FIELD) // 필드 기반 접근 (getter/setter가 아닌 실제 필드 기준으로 JPA 동작)
+@Table(indexes = {
+        @Index(name = "idx_post_board_id", columnList = "board_id"), // 게시판별 조회용 인덱스 (InnoDB 특성상 (board_id, p_id) 순서)
+        @Index(name = "idx_post_board_created", columnList = "board_id, created_at, p_id"), // 게시판별 커서 페이징
+        @Index(name = "idx_post_created", columnList = "created_at, p_id") // 전체 게시글 커서 페이징
+})
 public class Post {
 
     @Id
@@ -44,7 +49,7 @@ public class Post {
     @JoinColumn(name = "board_id", nullable = true) // 외래 키: board_id
     private Board board; // 소속 게시판 정보
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false) // 조회수는 ViewCountBuffer 의 배치 UPDATE 로만 증가 (엔티티 저장 시 덮어쓰지 않음)
     private Integer viewCount = 0; // 기본 조회수 0으로 초기화
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
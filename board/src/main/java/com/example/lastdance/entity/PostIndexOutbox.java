@@ -0,0 +1,43 @@
+package com.example.lastdance.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 반영을 기다리는 게시글 변경 이벤트 (transactional outbox)
+ * 게시글 저장/삭제와 같은 트랜잭션에서 기록되고, PostIndexOutboxRelay 가 모아서 검색 색인에 일괄 반영합니다.
+ * 공유 색인은 반영 후 바로 삭제하고, 인스턴스별 색인은 각자 위치를 기억하며 보존 기간이 지난 뒤 삭제합니다.
+ */
+@Entity
+@Table(name = "post_index_outbox")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostIndexOutbox {
+
+    public enum EventType {
+        UPSERT, // 게시글 생성/수정
+        DELETE  // 게시글 삭제
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private EventType eventType;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -1,12 +1,15 @@
 package com.example.lastdance.repository;
 
+import com.example.lastdance.dto.BookmarkFeedItem;
 import com.example.lastdance.entity.Bookmark;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -19,8 +22,26 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     @Query("SELECT b FROM Bookmark b WHERE b.uEmail = :uEmail")
     List<Bookmark> findAllByUEmail(@Param("uEmail") String uEmail);
 
+    // 사용자가 북마크한 게시글 ID 목록 (비트맵 캐시 로딩용)
+    @Query("SELECT b.pId FROM Bookmark b WHERE b.uEmail = :uEmail")
+    List<Long> findPostIdsByUEmail(@Param("uEmail") String uEmail);
+
     @Modifying
     @Query("DELETE FROM Bookmark b WHERE b.uEmail = :uEmail AND b.pId = :pId")
     void deleteAllByUEmailAndPId(@Param("uEmail") String uEmail, @Param("pId") Long pId);
-}
 
+    // 여러 게시글의 북마크를 한 번에 삭제
+    @Modifying
+    @Query("DELETE FROM Bookmark b WHERE b.uEmail = :uEmail AND b.pId IN :pIds")
+    int deleteAllByUEmailAndPIdIn(@Param("uEmail") String uEmail, @Param("pIds") Collection<Long> pIds);
+
+    // 북마크 피드: 북마크 최신순(mId DESC)으로 beforeId 이전 북마크와 게시글 요약을 한 번에 조회 (삭제된 게시글은 제외)
+    @Query("SELECT new com.example.lastdance.dto.BookmarkFeedItem(" +
+            "b.mId, b.createdAt, p.pId, p.title, SUBSTRING(p.content, 1, :previewLength), p.nickname, " +
+            "p.createdAt, p.board.bId, p.viewCount) " +
+            "FROM Bookmark b JOIN Post p ON p.pId = b.pId " +
+            "WHERE b.uEmail = :uEmail AND b.mId < :beforeId " +
+            "ORDER BY b.mId DESC")
+    List<BookmarkFeedItem> findFeed(@Param("uEmail") String uEmail, @Param("beforeId") Long beforeId,
+                                    @Param("previewLength") int previewLength, Pageable pageable);
+}
@@ -1,8 +1,13 @@
 package com.example.lastdance.repository;
 
+import com.example.lastdance.dto.CommentResponseDto;
 import com.example.lastdance.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -11,6 +16,14 @@ import java.util.List;
  */
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    /**
+     * 댓글 조회용 프로젝션의 SELECT 절입니다.
+     * Comment.post 는 즉시 로딩(@ManyToOne) 이므로 엔티티로 조회하면 댓글마다 게시글(본문 포함)이 함께 로딩됩니다.
+     * post_id 외래키 값만 읽도록 필요한 컬럼만 DTO 로 바로 조회합니다.
+     */
+    String DTO_SELECT = "SELECT new com.example.lastdance.dto.CommentResponseDto(" +
+            "c.cId, c.post.pId, c.authorId, c.content, c.createdAt) FROM Comment c ";
+
     /**
      * 특정 게시글(postId)에 해당하는 모든 댓글을 조회합니다.
      * JPA는 메서드 이름을 기반으로 쿼리를 자동 생성합니다.
@@ -22,4 +35,60 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @return 해당 게시글에 속한 댓글 리스트
      */
     List<Comment> findAllByPost_pId(Long postId);
-}
\ No newline at end of file
+
+    /**
+     * 특정 게시글의 댓글을 작성 순서(cId 오름차순)로 DTO 로 바로 조회합니다.
+     * afterId 보다 큰 cId 만 조회하므로 커서 페이징에 사용합니다. (첫 페이지는 afterId = 0)
+     *
+     * @param postId   조회할 게시글 ID
+     * @param afterId  이전 페이지의 마지막 댓글 ID
+     * @param pageable 조회 건수 제한 (page 는 항상 0)
+     * @return 댓글 DTO 리스트
+     */
+    @Query(DTO_SELECT + "WHERE c.post.pId = :postId AND c.cId > :afterId ORDER BY c.cId ASC")
+    List<CommentResponseDto> findDtosByPostIdAfter(@Param("postId") Long postId,
+                                                   @Param("afterId") Long afterId,
+                                                   Pageable pageable);
+
+    /**
+     * 특정 게시글의 모든 댓글을 DTO 로 바로 조회합니다.
+     *
+     * @param postId 조회할 게시글 ID
+     * @return 댓글 DTO 리스트 (작성 순서)
+     */
+    @Query(DTO_SELECT + "WHERE c.post.pId = :postId ORDER BY c.cId ASC")
+    List<CommentResponseDto> findDtosByPostId(@Param("postId") Long postId);
+
+    /**
+     * 여러 게시글의 댓글을 한 번의 IN 쿼리로 조회합니다.
+     *
+     * @param postIds 조회할 게시글 ID 목록
+     * @return 게시글 ID, 작성 순서로 정렬된 댓글 DTO 리스트
+     */
+    @Query(DTO_SELECT + "WHERE c.post.pId IN :postIds ORDER BY c.post.pId ASC, c.cId ASC")
+    List<CommentResponseDto> findDtosByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 여러 게시글의 댓글 수를 한 번의 GROUP BY 쿼리로 조회합니다.
+     *
+     * @param postIds 조회할 게시글 ID 목록
+     * @return [게시글 ID, 댓글 수] 배열 리스트 (댓글이 없는 게시글은 포함되지 않음)
+     */
+    @Query("SELECT c.post.pId, COUNT(c) FROM Comment c WHERE c.post.pId IN :postIds GROUP BY c.post.pId")
+    List<Object[]> countByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 여러 게시글의 최신 댓글을 게시글마다 limit 개씩 한 번의 쿼리로 조회합니다.
+     * (MySQL 8 윈도우 함수 ROW_NUMBER 사용, (post_id, c_id) 인덱스를 탐)
+     *
+     * @param postIds 조회할 게시글 ID 목록
+     * @param limit   게시글당 댓글 수
+     * @return [c_id, post_id, author_id, content, created_at] 배열 리스트 (게시글별 최신순)
+     */
+    @Query(value = "SELECT c_id, post_id, author_id, content, created_at FROM (" +
+            "SELECT c.c_id, c.post_id, c.author_id, c.content, c.created_at, " +
+            "ROW_NUMBER() OVER (PARTITION BY c.post_id ORDER BY c.c_id DESC) AS rn " +
+            "FROM comment c WHERE c.post_id IN (:postIds)) ranked " +
+            "WHERE rn <= :limit ORDER BY post_id, c_id DESC", nativeQuery = true)
+    List<Object[]> findLatestByPostIdIn(@Param("postIds") Collection<Long> postIds, @Param("limit") int limit);
+}
@@ -0,0 +1,35 @@
+package com.example.lastdance.repository;
+
+import com.example.lastdance.entity.PostIndexOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PostIndexOutboxRepository extends JpaRepository<PostIndexOutbox, Long> {
+
+    // 오래된 이벤트부터 pageable.size 만큼 조회
+    @Query("SELECT o FROM PostIndexOutbox o ORDER BY o.id ASC")
+    List<PostIndexOutbox> findOldest(Pageable pageable);
+
+    // afterId 이후 이벤트를 id 순으로 pageable.size 만큼 조회 (인스턴스별 색인의 위치 기반 처리용)
+    @Query("SELECT o FROM PostIndexOutbox o WHERE o.id > :afterId ORDER BY o.id ASC")
+    List<PostIndexOutbox> findAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 남아 있는 가장 오래된 이벤트 id (없으면 null)
+    @Query("SELECT MIN(o.id) FROM PostIndexOutbox o")
+    Long findMinId();
+
+    // 가장 최근 이벤트 id (없으면 null)
+    @Query("SELECT MAX(o.id) FROM PostIndexOutbox o")
+    Long findMaxId();
+
+    // 보존 기간이 지난 이벤트 삭제
+    @Modifying
+    @Query("DELETE FROM PostIndexOutbox o WHERE o.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
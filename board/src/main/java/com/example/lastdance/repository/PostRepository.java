@@ -1,12 +1,64 @@
 package com.example.lastdance.repository;
 
+import com.example.lastdance.dto.PostSummary;
 import com.example.lastdance.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    // 목록 조회용 프로젝션 (본문은 :previewLength 글자까지만, Board 는 FK 값만 사용)
+    String SUMMARY_SELECT = "SELECT new com.example.lastdance.dto.PostSummary(" +
+            "p.pId, p.title, SUBSTRING(p.content, 1, :previewLength), p.authorId, p.nickname, " +
+            "p.createdAt, p.updatedAt, p.board.bId, p.viewCount) FROM Post p ";
+
     // 게시판 ID(board.bId)로 게시글 페이지 조회
     Page<Post> findAllByBoard_bId(Long boardId, Pageable pageable);
+
+    // 게시판 ID 기준 keyset 조회 (afterId 보다 큰 pId 부터 pageable.size 만큼, count 쿼리 없음)
+    @Query("SELECT p FROM Post p WHERE p.board.bId = :boardId AND p.pId > :afterId ORDER BY p.pId ASC")
+    List<Post> findByBoardAfter(@Param("boardId") Long boardId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 전체 게시글 keyset 조회 (afterId 보다 큰 pId 부터 pageable.size 만큼, 재색인 등 일괄 처리용)
+    @Query("SELECT p FROM Post p WHERE p.pId > :afterId ORDER BY p.pId ASC")
+    List<Post> findAllAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // ===== 목록 프로젝션 (offset 페이징) =====
+
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT count(p) FROM Post p")
+    Page<PostSummary> findSummaries(@Param("previewLength") int previewLength, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.board.bId = :boardId",
+            countQuery = "SELECT count(p) FROM Post p WHERE p.board.bId = :boardId")
+    Page<PostSummary> findSummariesByBoard(@Param("boardId") Long boardId,
+                                           @Param("previewLength") int previewLength, Pageable pageable);
+
+    // ===== 커서(keyset) 페이징: 최신순 (createdAt DESC, pId DESC), count 쿼리 없음 =====
+
+    @Query(SUMMARY_SELECT + "ORDER BY p.createdAt DESC, p.pId DESC")
+    List<PostSummary> findLatest(@Param("previewLength") int previewLength, Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.pId < :pId) " +
+            "ORDER BY p.createdAt DESC, p.pId DESC")
+    List<PostSummary> findLatestBefore(@Param("createdAt") LocalDateTime createdAt, @Param("pId") Long pId,
+                                       @Param("previewLength") int previewLength, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.board.bId = :boardId ORDER BY p.createdAt DESC, p.pId DESC")
+    List<PostSummary> findLatestByBoard(@Param("boardId") Long boardId,
+                                        @Param("previewLength") int previewLength, Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "WHERE p.board.bId = :boardId " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.pId < :pId)) " +
+            "ORDER BY p.createdAt DESC, p.pId DESC")
+    List<PostSummary> findLatestByBoardBefore(@Param("boardId") Long boardId, @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("pId") Long pId, @Param("previewLength") int previewLength,
+                                              Pageable pageable);
 }
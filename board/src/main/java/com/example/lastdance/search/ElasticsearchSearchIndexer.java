@@ -0,0 +1,100 @@
+package com.example.lastdance.search;
+
+import com.example.lastdance.dto.PostSearchResult;
+import com.example.lastdance.entity.Post;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Elasticsearch 클러스터 기반 게시글 검색 색인입니다. (board.search.indexer=elasticsearch 로 명시했을 때만)
+ * 모든 BOARD 인스턴스가 같은 색인을 보므로, 어느 인스턴스의 relay 가 outbox 를 처리하든 검색 결과가 같습니다.
+ * outbox 에서 모인 변경분을 문서 단위 호출 대신 bulk 요청 한 번으로 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.search.indexer", havingValue = "elasticsearch")
+public class ElasticsearchSearchIndexer implements SearchIndexer {
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+
+    @Override
+    public void bulkIndex(Collection<Post> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        List<IndexQuery> queries = posts.stream()
+                .map(post -> new IndexQueryBuilder()
+                        .withId(String.valueOf(post.getPId()))
+                        .withObject(toDocument(post))
+                        .build())
+                .toList();
+        elasticsearchOperations.bulkIndex(queries, PostDocument.class);
+    }
+
+    @Override
+    public void bulkDelete(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        NativeQuery query = NativeQuery.builder()
+                .withIds(postIds.stream().map(String::valueOf).toList())
+                .build();
+        elasticsearchOperations.delete(DeleteQuery.builder(query).build(), PostDocument.class);
+    }
+
+    @Override
+    public Page<PostSearchResult> search(String keyword, Pageable pageable) {
+        // 제목 > 닉네임 > 본문 순으로 가중치
+        Criteria criteria = new Criteria("title").matches(keyword).boost(3.0f)
+                .or(new Criteria("nickname").matches(keyword).boost(2.0f))
+                .or(new Criteria("content").matches(keyword));
+        SearchHits<PostDocument> hits = elasticsearchOperations.search(new CriteriaQuery(criteria, pageable), PostDocument.class);
+
+        List<PostSearchResult> results = hits.getSearchHits().stream()
+                .map(hit -> {
+                    PostDocument doc = hit.getContent();
+                    return PostSearchResult.builder()
+                            .id(Long.parseLong(doc.getId()))
+                            .title(doc.getTitle())
+                            .nickname(doc.getNickname())
+                            .boardId(doc.getBoardId())
+                            .createdAt(doc.getCreatedAt() == null ? null : LocalDateTime.parse(doc.getCreatedAt()))
+                            .score(hit.getScore())
+                            .build();
+                })
+                .toList();
+        return new PageImpl<>(results, pageable, hits.getTotalHits());
+    }
+
+    private PostDocument toDocument(Post post) {
+        return PostDocument.builder()
+                .id(String.valueOf(post.getPId()))
+                .title(post.getTitle())
+                .content(post.getContent())
+                .nickname(post.getNickname())
+                .boardId(post.getBoard() == null ? null : post.getBoard().getBId())
+                .createdAt(post.getCreatedAt() == null ? null : post.getCreatedAt().toString())
+                .build();
+    }
+}
@@ -1,19 +1,20 @@
-//package com.example.lastdance.search;
-//
-//import lombok.*;
-//import org.springframework.data.annotation.Id;
-//import org.springframework.data.elasticsearch.annotations.Document;
-//
-//@Document(indexName = "posts")
-//@Getter @Setter @Builder
-//@NoArgsConstructor @AllArgsConstructor
-//public class PostDocument {
-//
-//    @Id
-//    private String id;
-//
-//    private String title;
-//    private String content;
-//    private String nickname;
-//    private String createdAt;
-//}
+package com.example.lastdance.search;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+
+@Document(indexName = "posts")
+@Getter @Setter @Builder
+@NoArgsConstructor @AllArgsConstructor
+public class PostDocument {
+
+    @Id
+    private String id;
+
+    private String title;
+    private String content;
+    private String nickname;
+    private Long boardId;
+    private String createdAt;
+}
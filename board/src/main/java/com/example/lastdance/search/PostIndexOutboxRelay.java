@@ -0,0 +1,195 @@
+package com.example.lastdance.search;
+
+import com.example.lastdance.entity.Post;
+import com.example.lastdance.entity.PostIndexOutbox;
+import com.example.lastdance.repository.PostIndexOutboxRepository;
+import com.example.lastdance.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * post_index_outbox 에 쌓인 게시글 변경 이벤트를 주기적으로 읽어 SearchIndexer 에 bulk 로 반영합니다.
+ * 게시글 저장 요청은 outbox 기록까지만 하고 끝나므로, 쓰기 지연이 검색 클러스터 상태에 영향을 받지 않습니다.
+ * 반영에 실패한 배치는 outbox 에 그대로 남아 다음 주기에 다시 처리됩니다.
+ *
+ * 공유 색인(Elasticsearch)은 반영한 이벤트를 바로 삭제합니다.
+ * 이때 여러 인스턴스가 같은 게시글의 이벤트를 동시에 처리하면 오래된 스냅샷이 나중에 색인될 수 있으므로,
+ * MySQL 네임드 락(GET_LOCK)을 잡은 인스턴스 하나만 처리합니다. 락은 연결에 묶여 있어 인스턴스가 죽으면 자동으로 풀립니다.
+ * 인스턴스별 색인(embedded)은 이벤트를 지우지 않고 색인이 기억하는 outbox 위치 이후부터 읽으므로, 모든 인스턴스가 모든 변경을 받습니다.
+ * 이 경우 outbox 는 board.search.outbox.retention-hours 가 지난 이벤트만 정리합니다.
+ * id 는 INSERT 시점에 정해지고 commit 순서는 다를 수 있으므로, 위치 기반 처리는 settle-ms 보다 최근 이벤트에서 멈춰
+ * 먼저 번호를 받고 늦게 commit 된 이벤트를 건너뛰지 않게 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostIndexOutboxRelay {
+
+    // 공유 색인 relay 를 한 인스턴스만 실행하기 위한 네임드 락 (대기하지 않고 바로 실패)
+    private static final String LOCK_NAME = "board.search.outbox-relay";
+    private static final String LOCK_SQL = "SELECT GET_LOCK(?, 0)";
+    private static final String UNLOCK_SQL = "SELECT RELEASE_LOCK(?)";
+
+    private final PostIndexOutboxRepository outboxRepository;
+    private final PostRepository postRepository;
+    private final SearchIndexer searchIndexer;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 번에 처리할 outbox 이벤트 수 (= bulk 요청 크기 상한)
+    @Value("${board.search.outbox.batch-size:500}")
+    private int batchSize;
+
+    // 위치 기반 처리에서 아직 읽지 않을 최근 이벤트 구간 (ms)
+    @Value("${board.search.outbox.settle-ms:2000}")
+    private long settleMs;
+
+    // 인스턴스별 색인일 때 outbox 이벤트 보존 기간 (이보다 오래 꺼져 있던 인스턴스는 기동 시 전체 재색인)
+    @Value("${board.search.outbox.retention-hours:24}")
+    private long retentionHours;
+
+    @Scheduled(fixedDelayString = "${board.search.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        if (searchIndexer.isShared()) {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                // 다른 인스턴스가 처리 중이면 이번 주기는 건너뜀
+                if (!tryLock(connection)) {
+                    return null;
+                }
+                try {
+                    drainAndDelete();
+                } finally {
+                    unlock(connection);
+                }
+                return null;
+            });
+        } else {
+            drainFromPosition();
+        }
+    }
+
+    // 인스턴스별 색인: 보존 기간이 지난 이벤트 정리 (어느 인스턴스가 실행해도 같은 결과)
+    @Scheduled(fixedDelayString = "${board.search.outbox.prune-interval-ms:3600000}")
+    @Transactional
+    public void prune() {
+        if (searchIndexer.isShared()) {
+            return;
+        }
+        int deleted = outboxRepository.deleteCreatedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.debug("보존 기간이 지난 검색 색인 outbox {}건 삭제", deleted);
+        }
+    }
+
+    private void drainFromPosition() {
+        LocalDateTime settledBefore = LocalDateTime.now().minus(Duration.ofMillis(settleMs));
+        List<PostIndexOutbox> fetched;
+        do {
+            fetched = outboxRepository.findAfter(searchIndexer.outboxPosition(), PageRequest.of(0, batchSize));
+            List<PostIndexOutbox> events = settledPrefix(fetched, settledBefore);
+            if (events.isEmpty()) {
+                return;
+            }
+            try {
+                apply(events);
+            } catch (RuntimeException e) {
+                log.warn("검색 색인 outbox 반영 실패 ({}건), 다음 주기에 재시도합니다.", events.size(), e);
+                return;
+            }
+            searchIndexer.advanceOutboxPosition(events.get(events.size() - 1).getId());
+            if (events.size() < fetched.size()) {
+                return;
+            }
+        } while (fetched.size() == batchSize);
+    }
+
+    // id 순서대로, 처음으로 settledBefore 이후에 기록된 이벤트 앞까지만
+    private static List<PostIndexOutbox> settledPrefix(List<PostIndexOutbox> events, LocalDateTime settledBefore) {
+        for (int i = 0; i < events.size(); i++) {
+            LocalDateTime createdAt = events.get(i).getCreatedAt();
+            if (createdAt != null && createdAt.isAfter(settledBefore)) {
+                return events.subList(0, i);
+            }
+        }
+        return events;
+    }
+
+    private void drainAndDelete() {
+        List<PostIndexOutbox> events;
+        do {
+            events = outboxRepository.findOldest(PageRequest.of(0, batchSize));
+            if (events.isEmpty()) {
+                return;
+            }
+            try {
+                apply(events);
+            } catch (RuntimeException e) {
+                log.warn("검색 색인 outbox 반영 실패 ({}건), 다음 주기에 재시도합니다.", events.size(), e);
+                return;
+            }
+            outboxRepository.deleteAllByIdInBatch(events.stream().map(PostIndexOutbox::getId).toList());
+        } while (events.size() == batchSize);
+    }
+
+    private static boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(LOCK_SQL)) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(UNLOCK_SQL)) {
+            statement.setString(1, LOCK_NAME);
+            statement.executeQuery().close();
+        }
+    }
+
+    private void apply(List<PostIndexOutbox> events) {
+        // 같은 게시글의 이벤트는 마지막 것만 반영
+        Map<Long, PostIndexOutbox.EventType> latest = new LinkedHashMap<>();
+        events.forEach(e -> latest.put(e.getPostId(), e.getEventType()));
+
+        Set<Long> upsertIds = latest.entrySet().stream()
+                .filter(e -> e.getValue() == PostIndexOutbox.EventType.UPSERT)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(HashSet::new));
+        Set<Long> deleteIds = latest.entrySet().stream()
+                .filter(e -> e.getValue() == PostIndexOutbox.EventType.DELETE)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        // 색인은 현재 DB 상태 기준 (그 사이 삭제된 게시글은 색인에서도 삭제)
+        List<Post> posts = postRepository.findAllById(upsertIds);
+        posts.forEach(p -> upsertIds.remove(p.getPId()));
+        deleteIds.addAll(upsertIds);
+
+        if (!posts.isEmpty()) {
+            searchIndexer.bulkIndex(posts);
+        }
+        if (!deleteIds.isEmpty()) {
+            searchIndexer.bulkDelete(deleteIds);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.lastdance.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.core.WhitespaceTokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenFilter;
+
+/**
+ * 게시글 검색용 분석기입니다.
+ * 한국어는 조사/어미가 단어에 붙어 있어 공백 단위로는 부분 검색이 되지 않으므로,
+ * 공백으로 나눈 단어를 다시 2~3글자 n-gram 으로 쪼개고 원래 단어도 함께 색인합니다.
+ * ex) "스프링부트를" → 스프, 프링, 링부, ... , 스프링, 프링부, ... , 스프링부트를
+ */
+public class PostNGramAnalyzer extends Analyzer {
+
+    static final int MIN_GRAM = 2;
+    static final int MAX_GRAM = 3;
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer tokenizer = new WhitespaceTokenizer();
+        TokenStream stream = new LowerCaseFilter(tokenizer);
+        stream = new NGramTokenFilter(stream, MIN_GRAM, MAX_GRAM, true);
+        return new TokenStreamComponents(tokenizer, stream);
+    }
+}
@@ -0,0 +1,337 @@
+package com.example.lastdance.search;
+
+import com.example.lastdance.dto.PostSearchResult;
+import com.example.lastdance.entity.Post;
+import com.example.lastdance.repository.PostIndexOutboxRepository;
+import com.example.lastdance.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 제목/본문/닉네임에 대한 프로세스 내장 Lucene 역색인입니다. (board.search.indexer=embedded, 기본값)
+ * Elasticsearch 클러스터 없이 /api/search 를 처리하며, 게시글 변경은 outbox 를 거쳐 증분 반영됩니다.
+ * 색인은 board.search.index-dir 에 저장되고, 비어 있으면 기동 후 DB 에서 전체 재색인합니다.
+ *
+ * 색인이 인스턴스마다 따로 있으므로 outbox 는 지우지 않고, 이 색인이 반영한 마지막 outbox id 를 색인 commit 데이터에 함께 저장합니다.
+ * 재시작하면 그 위치부터 이어서 읽고, 그 사이 보존 기간이 지나 이벤트가 지워졌다면 전체 재색인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.search.indexer", havingValue = "embedded", matchIfMissing = true)
+public class PostSearchIndex implements SearchIndexer {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_NICKNAME = "nickname";
+    private static final String FIELD_BOARD_ID = "boardId";
+    private static final String FIELD_CREATED_AT = "createdAt";
+
+    // 필드별 가중치: 제목 > 닉네임 > 본문
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            FIELD_TITLE, 3.0f,
+            FIELD_NICKNAME, 2.0f,
+            FIELD_CONTENT, 1.0f
+    );
+
+    private static final int REINDEX_CHUNK_SIZE = 500;
+
+    // 색인 commit 데이터에 저장하는 outbox 위치 키
+    private static final String OUTBOX_POSITION_KEY = "outboxPosition";
+
+    // 검색어를 분석한 토큰 수 상한 (BooleanQuery 절 개수 제한 대비)
+    private static final int MAX_QUERY_TERMS = 64;
+
+    private final PostRepository postRepository;
+    private final PostIndexOutboxRepository outboxRepository;
+
+    private final Analyzer analyzer = new PostNGramAnalyzer();
+
+    @Value("${board.search.index-dir:./data/post-index}")
+    private String indexDir;
+
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    // 이 색인에 반영된 마지막 outbox id / 그중 디스크에 commit 된 값
+    private volatile long outboxPosition;
+    private long committedOutboxPosition;
+
+    @PostConstruct
+    public void open() throws IOException {
+        FSDirectory directory = FSDirectory.open(Path.of(indexDir));
+        if (DirectoryReader.indexExists(directory)) {
+            String position = SegmentInfos.readLatestCommit(directory).getUserData().get(OUTBOX_POSITION_KEY);
+            outboxPosition = position == null ? 0L : Long.parseLong(position);
+            committedOutboxPosition = outboxPosition;
+        }
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    // 색인이 비어 있거나 (최초 기동 등) 저장된 위치 이후 이벤트가 이미 지워졌으면 DB 의 게시글로 백그라운드 재색인
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfNeeded() {
+        Long oldest = outboxRepository.findMinId();
+        boolean missedEvents = oldest != null && oldest > outboxPosition + 1;
+        if (writer.getDocStats().numDocs > 0 && !missedEvents) {
+            return;
+        }
+        Thread thread = new Thread(this::rebuild, "post-search-reindex");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * DB 의 모든 게시글을 pId 순서로 청크 단위로 읽어 다시 색인합니다.
+     * 시작 전의 마지막 outbox id 까지는 재색인에 포함되므로, 끝나면 outbox 위치를 그 id 로 옮깁니다.
+     */
+    public void rebuild() {
+        Long latestEvent = outboxRepository.findMaxId();
+        long afterId = 0L;
+        int total = 0;
+        while (true) {
+            List<Post> chunk = postRepository.findAllAfter(afterId, PageRequest.of(0, REINDEX_CHUNK_SIZE));
+            bulkIndex(chunk);
+            total += chunk.size();
+            if (chunk.size() < REINDEX_CHUNK_SIZE) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1).getPId();
+        }
+        if (latestEvent != null) {
+            advanceOutboxPosition(latestEvent);
+        }
+        commit();
+        log.info("게시글 검색 색인 재구성 완료: {}건", total);
+    }
+
+    @Override
+    public boolean isShared() {
+        return false;
+    }
+
+    @Override
+    public long outboxPosition() {
+        return outboxPosition;
+    }
+
+    // 위치는 되돌리지 않음 (재색인과 relay 가 동시에 옮겨도 큰 값이 남음)
+    @Override
+    public synchronized void advanceOutboxPosition(long outboxId) {
+        if (outboxId > outboxPosition) {
+            outboxPosition = outboxId;
+        }
+    }
+
+    // 게시글 일괄 색인 (같은 id 문서는 교체, 배치당 한 번만 검색기 갱신)
+    @Override
+    public void bulkIndex(Collection<Post> posts) {
+        try {
+            for (Post post : posts) {
+                writer.updateDocument(new Term(FIELD_ID, String.valueOf(post.getPId())), toDocument(post));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 게시글 일괄 색인 삭제
+    @Override
+    public void bulkDelete(Collection<Long> postIds) {
+        try {
+            Term[] terms = postIds.stream()
+                    .map(id -> new Term(FIELD_ID, String.valueOf(id)))
+                    .toArray(Term[]::new);
+            writer.deleteDocuments(terms);
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 키워드로 게시글을 검색해 점수(BM25) 순으로 페이지 단위 반환합니다.
+     *
+     * @param keyword  검색어 (공백으로 여러 단어)
+     * @param pageable 페이지 정보 (정렬은 점수순 고정)
+     * @return 검색 결과 페이지 (전체 건수는 Lucene 이 센 일치 건수)
+     */
+    @Override
+    public Page<PostSearchResult> search(String keyword, Pageable pageable) {
+        Query query = buildQuery(keyword);
+        if (query == null) {
+            return Page.empty(pageable);
+        }
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            int end = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+            TopDocs topDocs = searcher.search(query, end);
+            StoredFields storedFields = searcher.storedFields();
+
+            List<PostSearchResult> results = new ArrayList<>();
+            ScoreDoc[] hits = topDocs.scoreDocs;
+            for (int i = (int) pageable.getOffset(); i < hits.length; i++) {
+                Document doc = storedFields.document(hits[i].doc);
+                results.add(PostSearchResult.builder()
+                        .id(Long.parseLong(doc.get(FIELD_ID)))
+                        .title(doc.get(FIELD_TITLE))
+                        .nickname(doc.get(FIELD_NICKNAME))
+                        .boardId(doc.getField(FIELD_BOARD_ID) == null ? null : doc.getField(FIELD_BOARD_ID).numericValue().longValue())
+                        .createdAt(doc.get(FIELD_CREATED_AT) == null ? null : LocalDateTime.parse(doc.get(FIELD_CREATED_AT)))
+                        .score(hits[i].score)
+                        .build());
+            }
+            return new PageImpl<>(results, pageable, topDocs.totalHits.value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (searcher != null) {
+                release(searcher);
+            }
+        }
+    }
+
+    // 주기적으로 디스크에 반영 (검색 가시성은 maybeRefresh 로 즉시 보장), outbox 위치도 같은 commit 에 저장
+    @Scheduled(fixedDelayString = "${board.search.commit-interval-ms:5000}")
+    public synchronized void commit() {
+        try {
+            long position = outboxPosition;
+            if (position != committedOutboxPosition) {
+                writer.setLiveCommitData(Map.of(OUTBOX_POSITION_KEY, String.valueOf(position)).entrySet());
+            }
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+                committedOutboxPosition = position;
+            }
+        } catch (IOException e) {
+            log.warn("게시글 검색 색인 commit 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        commit();
+        searcherManager.close();
+        writer.close(); // close 시 commit 포함
+    }
+
+    private Document toDocument(Post post) {
+        Document doc = new Document();
+        doc.add(new StringField(FIELD_ID, String.valueOf(post.getPId()), Field.Store.YES));
+        doc.add(new TextField(FIELD_TITLE, nullToEmpty(post.getTitle()), Field.Store.YES));
+        doc.add(new TextField(FIELD_NICKNAME, nullToEmpty(post.getNickname()), Field.Store.YES));
+        doc.add(new TextField(FIELD_CONTENT, nullToEmpty(post.getContent()), Field.Store.NO));
+        if (post.getBoard() != null) {
+            doc.add(new StoredField(FIELD_BOARD_ID, post.getBoard().getBId()));
+        }
+        if (post.getCreatedAt() != null) {
+            doc.add(new StoredField(FIELD_CREATED_AT, post.getCreatedAt().toString()));
+        }
+        return doc;
+    }
+
+    /**
+     * 검색어를 색인과 같은 분석기로 쪼갠 뒤, 필드별 가중치를 준 OR 쿼리로 만듭니다.
+     * n-gram 최소 길이보다 짧은 한 글자 검색어는 접두어 쿼리로 처리합니다.
+     */
+    private Query buildQuery(String keyword) {
+        Set<String> terms = analyze(keyword);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder root = new BooleanQuery.Builder();
+        FIELD_BOOSTS.forEach((field, boost) -> {
+            BooleanQuery.Builder fieldQuery = new BooleanQuery.Builder();
+            for (String term : terms) {
+                Query termQuery = term.length() < PostNGramAnalyzer.MIN_GRAM
+                        ? new PrefixQuery(new Term(field, term))
+                        : new TermQuery(new Term(field, term));
+                fieldQuery.add(termQuery, BooleanClause.Occur.SHOULD);
+            }
+            root.add(new BoostQuery(fieldQuery.build(), boost), BooleanClause.Occur.SHOULD);
+        });
+        return root.build();
+    }
+
+    private Set<String> analyze(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream stream = analyzer.tokenStream(FIELD_CONTENT, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("IndexSearcher 반환 실패", e);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
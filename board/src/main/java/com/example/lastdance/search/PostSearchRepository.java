@@ -1,8 +0,0 @@
-//package com.example.lastdance.search;
-//
-//import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
-//import java.util.List;
-//
-//public interface PostSearchRepository extends ElasticsearchRepository<PostDocument, String> {
-//    List<PostDocument> findByTitleContainingOrContentContaining(String title, String content);
-//}
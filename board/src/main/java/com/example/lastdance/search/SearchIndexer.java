@@ -0,0 +1,41 @@
+package com.example.lastdance.search;
+
+import com.example.lastdance.dto.PostSearchResult;
+import com.example.lastdance.entity.Post;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+
+/**
+ * 게시글 검색 색인 구현체의 공통 인터페이스입니다.
+ * board.search.indexer 값으로 구현체를 고릅니다.
+ * - embedded (기본): 프로세스 내장 Lucene 색인 (PostSearchIndex), Elasticsearch 클러스터 없이 동작
+ *   색인이 인스턴스마다 따로 있으므로 각 인스턴스가 자기 outbox 위치부터 읽고, outbox 는 보존 기간이 지나야 삭제됩니다.
+ * - elasticsearch: Elasticsearch 클러스터 (ElasticsearchSearchIndexer), 명시적으로 켰을 때만
+ *   모든 인스턴스가 같은 색인을 공유하므로 한 번에 한 인스턴스만 outbox 를 처리하고, 반영한 이벤트는 바로 삭제합니다.
+ */
+public interface SearchIndexer {
+
+    // 게시글 일괄 색인 (같은 id 문서는 교체)
+    void bulkIndex(Collection<Post> posts);
+
+    // 게시글 일괄 색인 삭제
+    void bulkDelete(Collection<Long> postIds);
+
+    // 키워드 검색 (점수순)
+    Page<PostSearchResult> search(String keyword, Pageable pageable);
+
+    // 모든 인스턴스가 같은 색인을 보는지 (false 면 인스턴스별 색인으로 outbox 위치를 직접 관리)
+    boolean isShared();
+
+    // 인스턴스별 색인에 마지막으로 반영한 outbox id (공유 색인은 사용하지 않음)
+    default long outboxPosition() {
+        throw new UnsupportedOperationException("shared index has no outbox position");
+    }
+
+    // 인스턴스별 색인에 outbox id 까지 반영했음을 기록 (색인과 함께 저장)
+    default void advanceOutboxPosition(long outboxId) {
+        throw new UnsupportedOperationException("shared index has no outbox position");
+    }
+}
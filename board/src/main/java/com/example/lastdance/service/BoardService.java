@@ -2,9 +2,17 @@ package com.example.lastdance.service;
 
 import com.example.lastdance.entity.Board;
 import com.example.lastdance.repository.BoardRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -12,29 +20,83 @@ import java.util.List;
 public class BoardService {
 
     private final BoardRepository boardRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 게시판 목록 스냅샷 (불변)
+     * 게시판 카테고리는 거의 바뀌지 않으므로 목록, ID 별 맵, 직렬화된 JSON 과 ETag 를 한 번에 만들어 두고
+     * 생성/수정/삭제 시(그리고 다른 인스턴스의 변경을 위해 주기적으로) 통째로 교체합니다.
+     */
+    public record BoardSnapshot(List<Board> boards, Map<Long, Board> byId, byte[] json, String etag) {
+    }
+
+    private volatile BoardSnapshot snapshot;
 
     public Board create(Board board) {
-        return boardRepository.save(board);
+        Board saved = boardRepository.save(board);
+        refresh();
+        return saved;
     }
 
     public Board update(Long id, Board updated) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Board not found: " + id));
         board.setCategory(updated.getCategory());
-        return boardRepository.save(board);
+        Board saved = boardRepository.save(board);
+        refresh();
+        return saved;
     }
 
     public void delete(Long id) {
         boardRepository.deleteById(id);
-
+        refresh();
     }
 
     public List<Board> getAll() {
-        return boardRepository.findAll();
+        return getSnapshot().boards();
     }
 
     public Board getById(Long id) {
-        return boardRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Board not found: " + id));
+        Board board = getSnapshot().byId().get(id);
+        if (board == null) {
+            throw new IllegalArgumentException("Board not found: " + id);
+        }
+        return board;
+    }
+
+    // 현재 게시판 목록 스냅샷 (처음 호출 시 DB 에서 로딩)
+    public BoardSnapshot getSnapshot() {
+        BoardSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = refresh();
+                }
+            }
+        }
+        return current;
+    }
+
+    // 다른 인스턴스에서 변경된 게시판 반영
+    @Scheduled(fixedDelayString = "${board.category-cache.refresh-interval-ms:60000}")
+    public void refreshIfLoaded() {
+        if (snapshot != null) {
+            refresh();
+        }
+    }
+
+    private BoardSnapshot refresh() {
+        List<Board> boards = List.copyOf(boardRepository.findAll());
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(boards);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+            Map<Long, Board> byId = boards.stream().collect(Collectors.toUnmodifiableMap(Board::getBId, Function.identity()));
+            BoardSnapshot fresh = new BoardSnapshot(boards, byId, json, etag);
+            snapshot = fresh;
+            return fresh;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Board snapshot serialization failed", e);
+        }
     }
 }
@@ -1,39 +1,122 @@
 package com.example.lastdance.service;
 
+import com.example.lastdance.cache.BookmarkBitmapCache;
+import com.example.lastdance.dto.BookmarkFeedItem;
+import com.example.lastdance.dto.CursorPageResponse;
 import com.example.lastdance.entity.Bookmark;
 import com.example.lastdance.repository.BookmarkRepository;
 import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class BookmarkService {
 
+    // 한 번에 처리할 수 있는 게시글 ID 최대 개수
+    private static final int MAX_BATCH_SIZE = 200;
+
+    // 북마크 피드 한 페이지 최대 크기
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+
+    // (u_email, p_id) 유니크 인덱스 덕분에 이미 있는 북마크는 건너뜀 (rewriteBatchedStatements 로 multi-row INSERT)
+    private static final String INSERT_IGNORE_SQL = "INSERT IGNORE INTO bookmark (u_email, p_id, created_at) VALUES (?, ?, NOW())";
+
     private final BookmarkRepository bookmarkRepository;
+    private final BookmarkBitmapCache bookmarkBitmapCache;
+    private final JdbcTemplate jdbcTemplate;
 
+    // 피드의 게시글 본문 미리보기 길이 (게시글 목록과 동일)
+    @Value("${board.post.preview-length:200}")
+    private int previewLength;
+
+    // 사용자별 북마크 비트맵에서 O(1) 로 확인
     public boolean isBookmarked(String uEmail, Long postId) {
-        return !bookmarkRepository.findAllByUEmailAndPId(uEmail, postId).isEmpty();
+        return bookmarkBitmapCache.contains(uEmail, postId);
+    }
+
+    // 여러 게시글의 북마크 여부를 한 번에 확인 (비트맵 한 번 조회 후 게시글마다 비트 확인)
+    public Map<Long, Boolean> getStatuses(String uEmail, Collection<Long> postIds) {
+        Set<Long> ids = distinct(postIds);
+        Roaring64Bitmap bitmap = bookmarkBitmapCache.get(uEmail);
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        ids.forEach(id -> result.put(id, bitmap.contains(id)));
+        return result;
     }
 
     public void importBookmark(String uEmail, Long postId) {
-        // 북마크 추가
-        Bookmark bookmark = Bookmark.builder()
-                .uEmail(uEmail)
-                .pId(postId)
-                .build();
-        bookmarkRepository.save(bookmark);
+        importBookmarks(uEmail, List.of(postId));
+    }
+
+    // 북마크 일괄 추가 (한 트랜잭션, 이미 있는 북마크는 그대로 둠)
+    @Transactional
+    public void importBookmarks(String uEmail, Collection<Long> postIds) {
+        Set<Long> ids = distinct(postIds);
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, ids, ids.size(), (ps, postId) -> {
+            ps.setString(1, uEmail);
+            ps.setLong(2, postId);
+        });
+        bookmarkBitmapCache.add(uEmail, ids); // 커밋 후 반영
     }
 
     @Transactional // ✅ 여기 추가!
     public void deleteBookmark(String uEmail, Long postId) {
         // 북마크 모두 삭제
         bookmarkRepository.deleteAllByUEmailAndPId(uEmail, postId);
+        bookmarkBitmapCache.remove(uEmail, List.of(postId)); // 커밋 후 반영
+    }
+
+    // 북마크 일괄 삭제 (한 번의 DELETE ... IN 쿼리)
+    @Transactional
+    public void deleteBookmarks(String uEmail, Collection<Long> postIds) {
+        Set<Long> ids = distinct(postIds);
+        bookmarkRepository.deleteAllByUEmailAndPIdIn(uEmail, ids);
+        bookmarkBitmapCache.remove(uEmail, ids); // 커밋 후 반영
     }
 
     public List<Bookmark> getUserBookmarks(String uEmail) {
         return bookmarkRepository.findAllByUEmail(uEmail);
     }
+
+    /**
+     * 북마크 피드 (최신 북마크순, 커서 페이징)
+     * 북마크와 게시글 요약을 JOIN 한 번으로 가져오므로 게시글을 따로 조회할 필요가 없습니다.
+     *
+     * @param uEmail 사용자 이메일
+     * @param after  이전 응답의 nextCursor (null 이면 첫 페이지)
+     * @param size   페이지 크기
+     */
+    public CursorPageResponse<BookmarkFeedItem> getFeed(String uEmail, Long after, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+        List<BookmarkFeedItem> items = bookmarkRepository.findFeed(
+                uEmail, after == null ? Long.MAX_VALUE : after, previewLength, PageRequest.of(0, limit + 1));
+
+        boolean hasNext = items.size() > limit;
+        List<BookmarkFeedItem> page = hasNext ? items.subList(0, limit) : items;
+        return CursorPageResponse.<BookmarkFeedItem>builder()
+                .content(page)
+                .size(limit)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? String.valueOf(page.get(page.size() - 1).getBookmarkId()) : null)
+                .build();
+    }
+
+    private Set<Long> distinct(Collection<Long> postIds) {
+        Set<Long> ids = new LinkedHashSet<>(postIds);
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("postIds must contain 1.." + MAX_BATCH_SIZE + " ids");
+        }
+        return ids;
+    }
 }
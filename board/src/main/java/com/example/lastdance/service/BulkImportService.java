@@ -0,0 +1,178 @@
+package com.example.lastdance.service;
+
+import com.example.lastdance.dto.BulkImportResult;
+import com.example.lastdance.dto.CommentImportRow;
+import com.example.lastdance.dto.PostImportRow;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * NDJSON 스트림으로 게시글/댓글을 대량 등록하는 서비스입니다.
+ *
+ * Post/Comment 는 IDENTITY 전략이라 JPA saveAll 로는 Hibernate JDBC 배치가 동작하지 않으므로,
+ * JdbcTemplate 배치 INSERT 를 직접 사용합니다. (URL 의 rewriteBatchedStatements=true 로 multi-row INSERT 로 변환)
+ * 입력은 한 줄씩 읽어 batch-size 만큼만 메모리에 두고, 배치를 DB 에 쓴 뒤에야 다음 줄을 읽으므로
+ * 입력 속도가 DB 처리 속도를 넘지 않습니다. (HTTP 요청이면 TCP 수준에서 송신 측이 대기)
+ * 배치마다 트랜잭션 하나로 커밋하고 진행 상황을 progress 콜백으로 알립니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkImportService {
+
+    private static final String INSERT_POST_SQL =
+            "INSERT INTO post (board_id, title, content, author_id, nickname, view_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_OUTBOX_SQL =
+            "INSERT INTO post_index_outbox (post_id, event_type, created_at) VALUES (?, 'UPSERT', ?)";
+
+    private static final String INSERT_COMMENT_SQL =
+            "INSERT INTO comment (post_id, author_id, content, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 한 번에 INSERT/커밋할 행 수
+    @Value("${board.bulk.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 게시글 NDJSON 을 일괄 등록합니다. 등록된 게시글은 검색 색인 outbox 에도 같은 트랜잭션으로 기록됩니다.
+     *
+     * @param in       한 줄에 PostImportRow 하나인 NDJSON 입력
+     * @param progress 배치 커밋마다 호출되는 진행 상황 콜백
+     * @return 최종 결과
+     */
+    public BulkImportResult importPosts(InputStream in, Consumer<BulkImportResult> progress) {
+        return importNdjson(in, PostImportRow.class, this::insertPosts, progress);
+    }
+
+    /**
+     * 댓글 NDJSON 을 일괄 등록합니다.
+     *
+     * @param in       한 줄에 CommentImportRow 하나인 NDJSON 입력
+     * @param progress 배치 커밋마다 호출되는 진행 상황 콜백
+     * @return 최종 결과
+     */
+    public BulkImportResult importComments(InputStream in, Consumer<BulkImportResult> progress) {
+        return importNdjson(in, CommentImportRow.class, this::insertComments, progress);
+    }
+
+    private <T> BulkImportResult importNdjson(InputStream in, Class<T> type, Consumer<List<T>> writer,
+                                              Consumer<BulkImportResult> progress) {
+        long startedAt = System.nanoTime();
+        long inserted = 0;
+        int batches = 0;
+        BulkImportResult result = toResult(0, 0, startedAt);
+
+        try (MappingIterator<T> rows = objectMapper.readerFor(type).readValues(in)) {
+            List<T> batch = new ArrayList<>(batchSize);
+            while (rows.hasNextValue()) {
+                batch.add(rows.nextValue());
+                if (batch.size() < batchSize && rows.hasNextValue()) {
+                    continue;
+                }
+                List<T> current = batch;
+                transactionTemplate.executeWithoutResult(status -> writer.accept(current));
+                inserted += batch.size();
+                batches++;
+                batch = new ArrayList<>(batchSize);
+
+                result = toResult(inserted, batches, startedAt);
+                progress.accept(result);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("NDJSON 읽기 실패 (" + inserted + "건까지 저장됨)", e);
+        }
+
+        log.info("일괄 등록 완료 ({}): {}건, {}배치, {}ms", type.getSimpleName(), result.getInserted(),
+                result.getBatches(), result.getElapsedMs());
+        return result;
+    }
+
+    private void insertPosts(List<PostImportRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_POST_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PostImportRow row = rows.get(i);
+                        if (row.getBoardId() == null || row.getTitle() == null
+                                || row.getContent() == null || row.getNickname() == null) {
+                            throw new IllegalArgumentException("boardId, title, content, nickname 은 필수입니다. (배치 내 " + (i + 1) + "번째 행)");
+                        }
+                        ps.setLong(1, row.getBoardId());
+                        ps.setString(2, row.getTitle());
+                        ps.setString(3, row.getContent());
+                        ps.setObject(4, row.getAuthorId());
+                        ps.setString(5, row.getNickname());
+                        ps.setInt(6, row.getViewCount() == null ? 0 : row.getViewCount());
+                        ps.setTimestamp(7, now);
+                        ps.setTimestamp(8, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keys);
+
+        List<Long> postIds = keys.getKeyList().stream()
+                .map(Map::values)
+                .map(values -> ((Number) values.iterator().next()).longValue())
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, postIds, postIds.size(), (ps, postId) -> {
+            ps.setLong(1, postId);
+            ps.setTimestamp(2, now);
+        });
+    }
+
+    private void insertComments(List<CommentImportRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_COMMENT_SQL, rows, rows.size(), (ps, row) -> {
+            if (row.getPostId() == null || row.getAuthorId() == null || row.getContent() == null) {
+                throw new IllegalArgumentException("postId, authorId, content 는 필수입니다.");
+            }
+            ps.setLong(1, row.getPostId());
+            ps.setLong(2, row.getAuthorId());
+            ps.setString(3, row.getContent());
+            ps.setTimestamp(4, row.getCreatedAt() == null ? now : Timestamp.valueOf(row.getCreatedAt()));
+        });
+    }
+
+    private BulkImportResult toResult(long inserted, int batches, long startedAt) {
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        return BulkImportResult.builder()
+                .inserted(inserted)
+                .batches(batches)
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond(elapsedMs == 0 ? 0 : inserted * 1000.0 / elapsedMs)
+                .build();
+    }
+}
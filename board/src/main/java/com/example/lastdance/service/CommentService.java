@@ -1,15 +1,24 @@
 package com.example.lastdance.service;
 
 import com.example.lastdance.dto.CommentResponseDto;
+import com.example.lastdance.dto.CursorPageResponse;
+import com.example.lastdance.dto.PostResponseDto;
 import com.example.lastdance.entity.Comment;
 import com.example.lastdance.entity.Post;
 import com.example.lastdance.repository.CommentRepository;
 import com.example.lastdance.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * CommentService는 댓글 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -19,6 +28,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CommentService {
 
+    // 댓글 커서 페이징 한 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 일괄 조회 시 한 번에 받을 수 있는 게시글 ID 최대 개수
+    private static final int MAX_BULK_POST_IDS = 100;
+
+    // 게시글 목록에 함께 실어 보낼 수 있는 게시글당 최신 댓글 최대 개수
+    private static final int MAX_LATEST_COMMENTS = 10;
+
     // 댓글 Repository 의존성 주입
     private final CommentRepository commentRepository;
 
@@ -72,13 +90,102 @@ public class CommentService {
      * @return 댓글 DTO 리스트
      */
     public List<CommentResponseDto> getByPostId(Long postId) {
-        return commentRepository.findAllByPost_pId(postId).stream()
-                .map(c -> CommentResponseDto.builder()
-                        .postId(c.getPost().getPId())
-                        .authorId(c.getAuthorId())
-                        .content(c.getContent())
-                        .createdAt(c.getCreatedAt())
-                        .build())
-                .collect(Collectors.toList());
+        // 엔티티 대신 필요한 컬럼만 DTO 로 조회 (댓글마다 게시글이 로딩되는 N+1 방지)
+        return commentRepository.findDtosByPostId(postId);
+    }
+
+    /**
+     * 특정 게시글의 댓글을 커서(cId) 기준으로 페이지 단위 조회합니다.
+     * 댓글이 수천 개인 게시글도 한 번에 size 개씩만 읽습니다.
+     *
+     * @param postId 조회할 게시글 ID
+     * @param after  이전 응답의 nextCursor (null 이면 첫 페이지)
+     * @param size   페이지 크기
+     * @return 댓글 DTO 커서 페이지
+     */
+    public CursorPageResponse<CommentResponseDto> getByPostId(Long postId, Long after, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<CommentResponseDto> comments = commentRepository.findDtosByPostIdAfter(
+                postId, after == null ? 0L : after, PageRequest.of(0, limit + 1)); // 다음 페이지 확인용 1건 더 조회
+
+        boolean hasNext = comments.size() > limit;
+        List<CommentResponseDto> page = hasNext ? comments.subList(0, limit) : comments;
+        return CursorPageResponse.<CommentResponseDto>builder()
+                .content(page)
+                .size(limit)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? String.valueOf(page.get(page.size() - 1).getId()) : null)
+                .build();
+    }
+
+    /**
+     * 여러 게시글의 댓글을 한 번의 쿼리로 조회해 게시글 ID 별로 묶어 반환합니다.
+     * 댓글이 없는 게시글도 빈 리스트로 포함됩니다.
+     *
+     * @param postIds 조회할 게시글 ID 목록
+     * @return 게시글 ID → 댓글 DTO 리스트
+     */
+    public Map<Long, List<CommentResponseDto>> getByPostIds(List<Long> postIds) {
+        Set<Long> ids = new LinkedHashSet<>(postIds);
+        if (ids.size() > MAX_BULK_POST_IDS) {
+            throw new IllegalArgumentException("Too many postIds (max " + MAX_BULK_POST_IDS + ")");
+        }
+
+        Map<Long, List<CommentResponseDto>> result = new LinkedHashMap<>();
+        ids.forEach(id -> result.put(id, new ArrayList<>()));
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        for (CommentResponseDto comment : commentRepository.findDtosByPostIdIn(ids)) {
+            result.get(comment.getPostId()).add(comment);
+        }
+        return result;
+    }
+
+    /**
+     * 게시글 목록 DTO 에 댓글 수와 게시글별 최신 댓글을 채웁니다.
+     * 게시글마다 조회하지 않고 GROUP BY 집계 쿼리 1회, (latest > 0 이면) 최신 댓글 쿼리 1회로 처리합니다.
+     *
+     * @param posts  댓글 정보를 채울 게시글 DTO 목록
+     * @param latest 게시글당 함께 보낼 최신 댓글 수 (0 이면 댓글 수만 채움)
+     */
+    public void fillCommentStats(List<PostResponseDto> posts, int latest) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        Map<Long, PostResponseDto> byId = new LinkedHashMap<>();
+        posts.forEach(p -> {
+            p.setCommentCount(0L);
+            byId.put(p.getId(), p);
+        });
+
+        for (Object[] row : commentRepository.countByPostIdIn(byId.keySet())) {
+            byId.get((Long) row[0]).setCommentCount((Long) row[1]);
+        }
+
+        int limit = Math.min(latest, MAX_LATEST_COMMENTS);
+        if (limit <= 0) {
+            return;
+        }
+        posts.forEach(p -> p.setLatestComments(new ArrayList<>()));
+        for (Object[] row : commentRepository.findLatestByPostIdIn(byId.keySet(), limit)) {
+            CommentResponseDto comment = CommentResponseDto.builder()
+                    .id(((Number) row[0]).longValue())
+                    .postId(((Number) row[1]).longValue())
+                    .authorId(((Number) row[2]).longValue())
+                    .content((String) row[3])
+                    .createdAt(toLocalDateTime(row[4]))
+                    .build();
+            byId.get(comment.getPostId()).getLatestComments().add(comment);
+        }
+    }
+
+    // 네이티브 쿼리의 DATETIME 컬럼 값 변환 (드라이버/Hibernate 설정에 따라 Timestamp 로 올 수 있음)
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
     }
 }
@@ -0,0 +1,132 @@
+package com.example.lastdance.service;
+
+import com.example.lastdance.dto.BulkImportResult;
+import com.example.lastdance.dto.ImportJobStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 서버의 import 디렉터리(board.bulk.import-dir)에 올려둔 NDJSON 파일을 백그라운드로 일괄 등록하는 관리자 작업입니다.
+ * 작업은 한 번에 하나씩 실행되고, 대기열이 가득 차면 새 작업을 거절합니다.
+ * 끝난 작업의 상태는 board.bulk.job-retention-minutes 동안(최대 MAX_FINISHED_JOBS 개)만 조회할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class ImportJobService {
+
+    private static final int MAX_QUEUED_JOBS = 4;
+    private static final int MAX_FINISHED_JOBS = 100;
+
+    private final BulkImportService bulkImportService;
+
+    @Value("${board.bulk.import-dir:./data/import}")
+    private String importDir;
+
+    // 대기/실행 중인 작업 (실행기 대기열 크기로 제한됨)
+    private final Map<String, ImportJobStatus> activeJobs = new ConcurrentHashMap<>();
+    // 끝난 작업 (보존 기간이 지나면 제거)
+    private final Cache<String, ImportJobStatus> finishedJobs;
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(MAX_QUEUED_JOBS),
+            r -> new Thread(r, "bulk-import"));
+
+    public ImportJobService(BulkImportService bulkImportService,
+                            @Value("${board.bulk.job-retention-minutes:60}") long retentionMinutes) {
+        this.bulkImportService = bulkImportService;
+        this.finishedJobs = Caffeine.newBuilder()
+                .maximumSize(MAX_FINISHED_JOBS)
+                .expireAfterWrite(Duration.ofMinutes(retentionMinutes))
+                .build();
+    }
+
+    /**
+     * 일괄 등록 작업을 대기열에 넣습니다.
+     *
+     * @param type posts 또는 comments
+     * @param file import 디렉터리 기준 파일 이름
+     * @return 작업 상태 (id 로 진행 상황 조회)
+     */
+    public ImportJobStatus submit(String type, String file) {
+        Path base = Path.of(importDir).toAbsolutePath().normalize();
+        Path path = base.resolve(file).normalize();
+        if (!path.startsWith(base) || !Files.isRegularFile(path)) {
+            throw new IllegalArgumentException("Import file not found: " + file);
+        }
+        if (!"posts".equals(type) && !"comments".equals(type)) {
+            throw new IllegalArgumentException("Unknown import type: " + type);
+        }
+
+        ImportJobStatus job = new ImportJobStatus(UUID.randomUUID().toString(), type, file);
+        // 실행기에 넣기 전에 등록해, 제출 직후의 상태 조회도 작업을 찾을 수 있게 함
+        activeJobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, path));
+        } catch (RejectedExecutionException e) {
+            activeJobs.remove(job.getId());
+            throw new IllegalStateException("Too many import jobs queued (max " + MAX_QUEUED_JOBS + ")");
+        }
+        return job;
+    }
+
+    public ImportJobStatus get(String jobId) {
+        ImportJobStatus job = activeJobs.get(jobId);
+        if (job == null) {
+            job = finishedJobs.getIfPresent(jobId);
+        }
+        if (job == null) {
+            throw new IllegalArgumentException("Import job not found: " + jobId);
+        }
+        return job;
+    }
+
+    private void run(ImportJobStatus job, Path path) {
+        job.setState(ImportJobStatus.State.RUNNING);
+        job.setStartedAt(LocalDateTime.now());
+        Consumer<BulkImportResult> progress = result -> {
+            job.setProgress(result);
+            log.info("일괄 등록 [{}] {}: {}건 ({}배치, {}건/s)", job.getId(), job.getType(),
+                    result.getInserted(), result.getBatches(), (long) result.getRowsPerSecond());
+        };
+
+        try (InputStream in = Files.newInputStream(path)) {
+            BulkImportResult result = "posts".equals(job.getType())
+                    ? bulkImportService.importPosts(in, progress)
+                    : bulkImportService.importComments(in, progress);
+            job.setProgress(result);
+            job.setState(ImportJobStatus.State.COMPLETED);
+        } catch (Exception e) {
+            log.warn("일괄 등록 [{}] 실패", job.getId(), e);
+            job.setError(e.getMessage());
+            job.setState(ImportJobStatus.State.FAILED);
+        } finally {
+            job.setFinishedAt(LocalDateTime.now());
+            // 끝난 작업 목록에 먼저 넣고 빼서, 옮기는 사이에도 조회가 비지 않게 함
+            finishedJobs.put(job.getId(), job);
+            activeJobs.remove(job.getId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
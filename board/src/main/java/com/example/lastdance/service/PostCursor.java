@@ -0,0 +1,28 @@
+package com.example.lastdance.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 커서 페이징에 쓰이는 (createdAt, pId) 위치값입니다.
+ * 클라이언트에는 "createdAt,pId" 를 Base64(URL-safe) 로 감싼 불투명 문자열로만 노출합니다.
+ */
+record PostCursor(LocalDateTime createdAt, Long pId) {
+
+    String encode() {
+        String raw = createdAt + "," + pId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int comma = raw.lastIndexOf(',');
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, comma)), Long.parseLong(raw.substring(comma + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -1,97 +1,194 @@
 package com.example.lastdance.service;
 
+import com.example.lastdance.cache.PostDetailCache;
 import com.example.lastdance.entity.Board;
 import com.example.lastdance.entity.Post;
+import com.example.lastdance.entity.PostIndexOutbox;
 import com.example.lastdance.repository.BoardRepository;
+import com.example.lastdance.repository.PostIndexOutboxRepository;
 import com.example.lastdance.repository.PostRepository;
+import com.example.lastdance.dto.CursorPageResponse;
 import com.example.lastdance.dto.PostResponseDto;
-import jakarta.transaction.Transactional;
+import com.example.lastdance.dto.PostSummary;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    // 게시판 스트리밍 조회 시 한 번에 읽어오는 게시글 수
+    private static final int STREAM_CHUNK_SIZE = 500;
+
+    // 커서 페이징 한 페이지 최대 크기
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
     private final BoardRepository boardRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostIndexOutboxRepository postIndexOutboxRepository;
+    private final PostDetailCache postDetailCache;
 
-    // 게시글 생성
+    // 목록 응답의 본문 미리보기 길이 (글자 수)
+    @Value("${board.post.preview-length:200}")
+    private int previewLength;
+
+    // 게시글 생성 (검색 색인 반영 이벤트를 같은 트랜잭션에서 outbox 에 기록)
+    @Transactional
     public Post create(Post post, Long boardId) {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new IllegalArgumentException("Board not found"));
         post.setBoard(board);
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        recordIndexEvent(saved.getPId(), PostIndexOutbox.EventType.UPSERT);
+        return saved;
     }
 
     // 게시글 수정
+    @Transactional
     public Post update(Long id, Post updated) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Post not found"));
 
         post.setTitle(updated.getTitle());
         post.setContent(updated.getContent());
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        recordIndexEvent(saved.getPId(), PostIndexOutbox.EventType.UPSERT);
+        postDetailCache.invalidate(id);
+        return saved;
     }
 
     // 게시글 삭제
+    @Transactional
     public void delete(Long id) {
         postRepository.deleteById(id);
+        recordIndexEvent(id, PostIndexOutbox.EventType.DELETE);
+        postDetailCache.invalidate(id);
+    }
+
+    // 검색 색인 outbox 기록 (실제 색인은 PostIndexOutboxRelay 가 비동기로 일괄 반영)
+    private void recordIndexEvent(Long postId, PostIndexOutbox.EventType eventType) {
+        postIndexOutboxRepository.save(PostIndexOutbox.builder()
+                .postId(postId)
+                .eventType(eventType)
+                .build());
     }
 
     // 게시판 기준 전체 게시글 조회 (비페이징)
     public List<PostResponseDto> getAllByBoard(Long boardId) {
-        return postRepository.findAll().stream()
-                .filter(post -> post.getBoard().getBId().equals(boardId))
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        List<PostResponseDto> result = new ArrayList<>();
+        streamAllByBoard(boardId, result::add);
+        return result;
+    }
+
+    /**
+     * 게시판 기준 전체 게시글을 pId 순서로 consumer 에 흘려보냅니다.
+     * DB 에서 board_id 로 필터링하고 keyset(pId > 마지막 ID) 청크 단위로 끊어 읽으므로
+     * 게시판 크기와 관계없이 힙에는 한 청크 분량만 올라옵니다.
+     *
+     * @param boardId  조회할 게시판 ID
+     * @param consumer 변환된 게시글 DTO 를 받을 콜백
+     */
+    public void streamAllByBoard(Long boardId, Consumer<PostResponseDto> consumer) {
+        long afterId = 0L;
+        while (true) {
+            List<Post> chunk = postRepository.findByBoardAfter(boardId, afterId, PageRequest.of(0, STREAM_CHUNK_SIZE));
+            chunk.stream().map(this::toDto).forEach(consumer);
+            if (chunk.size() < STREAM_CHUNK_SIZE) {
+                return;
+            }
+            afterId = chunk.get(chunk.size() - 1).getPId();
+        }
     }
 
-    // 게시글 상세 조회
+    // 게시글 상세 조회 (PostDetailCache 를 거쳐 조회하고, 아직 DB 에 반영되지 않은 조회수는 읽을 때 더함)
     public PostResponseDto getById(Long id) {
-        return postRepository.findById(id)
-                .map(this::toDto)
-                .orElseThrow(() -> new IllegalArgumentException("Post not found"));
+        PostResponseDto cached = postDetailCache.get(id, () -> postRepository.findById(id)
+                .map(this::toStoredDto)
+                .orElseThrow(() -> new IllegalArgumentException("Post not found")));
+        return cached.toBuilder()
+                .viewCount(cached.getViewCount() + (int) viewCountBuffer.pending(id))
+                .build();
     }
 
-    // 전체 게시글 페이징
+    // 전체 게시글 페이징 (목록 프로젝션: 본문은 미리보기만)
     public Page<PostResponseDto> getAllPosts(Pageable pageable) {
-        Page<Post> postPage = postRepository.findAll(pageable);
-        List<PostResponseDto> dtoList = postPage.getContent().stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-        return new PageImpl<>(dtoList, pageable, postPage.getTotalElements());
+        return postRepository.findSummaries(previewLength, pageable)
+                .map(this::toDto);
     }
 
-    // 페이징 처리된 게시글 조회
+    // 페이징 처리된 게시글 조회 (목록 프로젝션: 본문은 미리보기만)
     public Page<PostResponseDto> getAllPaged(Pageable pageable) {
-        return postRepository.findAll(pageable)
+        return postRepository.findSummaries(previewLength, pageable)
                 .map(this::toDto);
     }
 
+    // 게시판별 게시글 페이징 (목록 프로젝션: 본문은 미리보기만)
     public Page<PostResponseDto> getPostsByBoard(Long boardId, Pageable pageable) {
-        return postRepository.findAllByBoard_bId(boardId, pageable)
-                .map(post -> PostResponseDto.builder()
-                        .id(post.getPId())
-                        .title(post.getTitle())
-                        .content(post.getContent())
-                        .authorId(post.getAuthorId())
-                        .nickname(post.getNickname())
-                        .createdAt(post.getCreatedAt())
-                        .updatedAt(post.getUpdatedAt())
-                        .viewCount(post.getViewCount())
-                        .boardId(post.getBoard().getBId())
-                        .build());
+        return postRepository.findSummariesByBoard(boardId, previewLength, pageable)
+                .map(this::toDto);
+    }
+
+    /**
+     * 커서(keyset) 기반 게시글 조회 (최신순).
+     * offset 대신 마지막으로 본 (createdAt, pId) 이후만 인덱스로 찾아 읽고 count 쿼리도 실행하지 않으므로
+     * 몇 번째 페이지든 첫 페이지와 같은 비용이 듭니다.
+     *
+     * @param boardId 게시판 ID (null 이면 전체 게시글)
+     * @param after   이전 응답의 nextCursor (null 또는 빈 문자열이면 첫 페이지)
+     * @param size    페이지 크기
+     */
+    public CursorPageResponse<PostResponseDto> getPostsByCursor(Long boardId, String after, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        Pageable fetch = PageRequest.of(0, limit + 1); // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        PostCursor cursor = (after == null || after.isBlank()) ? null : PostCursor.decode(after);
+
+        List<PostSummary> posts;
+        if (boardId == null) {
+            posts = cursor == null
+                    ? postRepository.findLatest(previewLength, fetch)
+                    : postRepository.findLatestBefore(cursor.createdAt(), cursor.pId(), previewLength, fetch);
+        } else {
+            posts = cursor == null
+                    ? postRepository.findLatestByBoard(boardId, previewLength, fetch)
+                    : postRepository.findLatestByBoardBefore(boardId, cursor.createdAt(), cursor.pId(), previewLength, fetch);
+        }
+
+        boolean hasNext = posts.size() > limit;
+        List<PostSummary> page = hasNext ? posts.subList(0, limit) : posts;
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummary last = page.get(page.size() - 1);
+            nextCursor = new PostCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPageResponse.<PostResponseDto>builder()
+                .content(page.stream().map(this::toDto).collect(Collectors.toList()))
+                .size(limit)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     // Post → PostResponseDto 변환 메서드
     private PostResponseDto toDto(Post post) {
+        PostResponseDto dto = toStoredDto(post);
+        dto.setViewCount(dto.getViewCount() + (int) viewCountBuffer.pending(post.getPId())); // 미반영 조회수 포함
+        return dto;
+    }
+
+    // Post → PostResponseDto 변환 (DB 에 저장된 조회수 그대로, 캐시 저장용)
+    private PostResponseDto toStoredDto(Post post) {
         return PostResponseDto.builder()
                 .id(post.getPId())
                 .title(post.getTitle())
@@ -105,13 +202,27 @@ public class PostService {
                 .build();
     }
 
-    @Transactional
-    public PostResponseDto getByIdAndIncreaseView(Long id) {
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Post not found"));
+    // PostSummary → PostResponseDto 변환 메서드 (content 에는 미리보기가 담김)
+    private PostResponseDto toDto(PostSummary summary) {
+        return PostResponseDto.builder()
+                .id(summary.getId())
+                .title(summary.getTitle())
+                .content(summary.getPreview())
+                .authorId(summary.getAuthorId())
+                .nickname(summary.getNickname())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .viewCount(summary.getViewCount() + (int) viewCountBuffer.pending(summary.getId())) // 미반영 조회수 포함
+                .boardId(summary.getBoardId())
+                .build();
+    }
 
-        post.setViewCount(post.getViewCount() + 1); // 조회수 증가
-        return toDto(post); // 변경된 post를 DTO로 반환
+    // 게시글 상세 조회 + 조회수 증가 (증가분은 ViewCountBuffer 에 모았다가 주기적으로 일괄 반영)
+    public PostResponseDto getByIdAndIncreaseView(Long id) {
+        PostResponseDto dto = getById(id);
+        viewCountBuffer.increment(id);
+        dto.setViewCount(dto.getViewCount() + 1);
+        return dto;
     }
 
 }
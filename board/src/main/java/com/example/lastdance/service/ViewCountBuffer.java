@@ -0,0 +1,125 @@
+package com.example.lastdance.service;
+
+import jakarta.annotation.PreDestroy;
+import com.example.lastdance.cache.PostDetailCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 write-behind 버퍼입니다.
+ * 조회 요청마다 post 행을 잠그고 갱신하는 대신 게시글별 LongAdder 에 증가분만 모아 두고,
+ * 주기적으로 한 번의 JDBC 배치 UPDATE (view_count = view_count + delta) 로 DB 에 반영합니다.
+ * 아직 반영되지 않은 증가분은 pending(postId) 로 조회해 응답에 더해 줍니다.
+ *
+ * UPDATE 가 커밋되면 반영한 증가분을 바로 대기 증가분에서 빼고, 그 다음에 커밋된 view_count 를 다시 읽어 상세 캐시를 맞춥니다.
+ * 그 사이 잠깐은 캐시가 이전 값을 보여 줄 수 있지만(표시가 늦을 뿐), 커밋된 증가분이 캐시와 pending 양쪽에 중복으로 더해지지는 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE post SET view_count = view_count + ? WHERE p_id = ?";
+    private static final String SELECT_COUNTS_SQL = "SELECT p_id, view_count FROM post WHERE p_id IN (%s)";
+    // 반영 후 조회수를 다시 읽을 때 IN 절 하나에 넣을 최대 ID 수
+    private static final int SELECT_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostDetailCache postDetailCache;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 조회수 1 증가 (DB 접근 없음). flush 의 맵 정리와 겹쳐도 증가분이 사라지지 않도록 compute 안에서 증가
+    public void increment(Long postId) {
+        pending.compute(postId, (id, adder) -> {
+            LongAdder target = adder == null ? new LongAdder() : adder;
+            target.increment();
+            return target;
+        });
+    }
+
+    // 아직 DB 에 반영되지 않은 증가분
+    public long pending(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * 모인 증가분을 배치 UPDATE 로 반영합니다.
+     * sum() 으로 읽은 만큼만 반영 성공 후 add(-delta) 로 빼기 때문에 flush 도중 들어온 증가분은 다음 주기로 넘어가고,
+     * 반영에 실패하면 증가분이 그대로 남아 다음 주기에 다시 시도됩니다.
+     */
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        List<LongAdder> adders = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            LongAdder adder = entry.getValue();
+            long delta = adder.sum();
+            if (delta == 0) {
+                // 한 주기 동안 조회가 없던 게시글은 맵에서 정리 (increment 와 같은 compute 잠금 안에서 다시 확인)
+                pending.computeIfPresent(entry.getKey(), (id, current) -> current.sum() == 0 ? null : current);
+                continue;
+            }
+            batch.add(new Object[]{delta, entry.getKey()});
+            adders.add(adder);
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (RuntimeException e) {
+            log.warn("조회수 flush 실패 ({}건), 다음 주기에 재시도합니다.", batch.size(), e);
+            return;
+        }
+
+        // 커밋된 증가분은 곧바로 대기 증가분에서 뺌 (새로 적재된 캐시 항목에 이미 포함돼 있을 수 있음)
+        List<Long> postIds = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            long delta = (Long) batch.get(i)[0];
+            adders.get(i).add(-delta);
+            postIds.add((Long) batch.get(i)[1]);
+        }
+
+        // 그 다음 상세 캐시를 커밋된 조회수로 맞춤
+        postDetailCache.applyViewCounts(readViewCounts(postIds));
+    }
+
+    // 방금 반영한 게시글들의 커밋된 조회수 (실패하면 캐시는 TTL 까지 이전 값을 유지)
+    private Map<Long, Integer> readViewCounts(List<Long> postIds) {
+        Map<Long, Integer> counts = new HashMap<>(postIds.size() * 2);
+        try {
+            for (int from = 0; from < postIds.size(); from += SELECT_CHUNK_SIZE) {
+                List<Long> chunk = postIds.subList(from, Math.min(from + SELECT_CHUNK_SIZE, postIds.size()));
+                String sql = String.format(SELECT_COUNTS_SQL, String.join(",", Collections.nCopies(chunk.size(), "?")));
+                jdbcTemplate.query(sql, rs -> {
+                    counts.put(rs.getLong("p_id"), rs.getInt("view_count"));
+                }, chunk.toArray());
+            }
+        } catch (RuntimeException e) {
+            log.warn("반영된 조회수 조회 실패 ({}건)", postIds.size(), e);
+        }
+        return counts;
+    }
+
+    // 종료 시 남은 증가분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
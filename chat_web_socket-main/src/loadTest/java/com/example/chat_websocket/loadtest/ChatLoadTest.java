@@ -0,0 +1,179 @@
+package com.example.chat_websocket.loadtest;
+
+import com.example.chat_websocket.dto.ChatMessageDTO;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * STOMP 동시 접속 부하 테스트
+ *
+ * 연결 connections 개를 맺어 각각 스터디 그룹 토픽을 구독하고, 연결마다 messages 개를 interval-ms 간격으로 보냅니다.
+ * 자기가 보낸 메시지가 토픽으로 돌아오기까지의 시간(왕복 지연)과 연결 수립 시간을 집계합니다.
+ * 같은 설정으로 spring.threads.virtual.enabled=false / true 인 서버에 각각 실행해 접속 수에 따른 변화를 비교합니다.
+ *
+ * 서버를 먼저 띄운 뒤 실행하며, 보낸 메시지는 실제로 chat_message 에 저장됩니다 (userName=loadtest).
+ * 예) ./gradlew loadTest -Pconnections=5000 -Pmessages=10 -PgroupIds=1,2,3
+ */
+public class ChatLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String url = property("url", "ws://localhost:8788/ws/websocket");
+        int connections = Integer.parseInt(property("connections", "1000"));
+        int messages = Integer.parseInt(property("messages", "10"));
+        long intervalMs = Long.parseLong(property("interval-ms", "1000"));
+        int maxPendingConnects = Integer.parseInt(property("max-pending-connects", "200"));
+        long[] groupIds = Arrays.stream(property("group-ids", "1").split(","))
+                .mapToLong(id -> Long.parseLong(id.trim()))
+                .toArray();
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+        System.out.printf("url=%s connections=%d messages=%d interval=%dms groups=%s%n",
+                url, connections, messages, intervalMs, Arrays.toString(groupIds));
+
+        // 1) 연결 수립 (동시에 진행 중인 핸드셰이크 수 제한)
+        ConcurrentLinkedQueue<Long> connectMillis = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<Long> roundTripMillis = new ConcurrentLinkedQueue<>();
+        AtomicInteger connectFailures = new AtomicInteger();
+        AtomicInteger received = new AtomicInteger();
+        List<StompSession> sessions = Collections.synchronizedList(new ArrayList<>());
+        Semaphore pendingConnects = new Semaphore(maxPendingConnects);
+        CountDownLatch connected = new CountDownLatch(connections);
+
+        long connectStart = System.nanoTime();
+        for (int i = 0; i < connections; i++) {
+            String tag = "lt-" + i + "-";
+            long groupId = groupIds[i % groupIds.length];
+            pendingConnects.acquire();
+            long start = System.nanoTime();
+            CompletableFuture<StompSession> future = stompClient.connectAsync(url, new StompSessionHandlerAdapter() {
+            });
+            future.whenComplete((session, error) -> {
+                pendingConnects.release();
+                if (error != null) {
+                    connectFailures.incrementAndGet();
+                } else {
+                    connectMillis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    session.subscribe("/topic/chat/study-group/" + groupId, new EchoHandler(tag, roundTripMillis, received));
+                    sessions.add(session);
+                }
+                connected.countDown();
+            });
+        }
+        connected.await();
+        long connectElapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStart);
+        System.out.printf("connected=%d failed=%d in %dms, connect latency %s%n",
+                sessions.size(), connectFailures.get(), connectElapsed, percentiles(connectMillis));
+
+        // 2) 연결마다 interval-ms 간격으로 메시지 전송
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger sendFailures = new AtomicInteger();
+        CountDownLatch sendsDone = new CountDownLatch(sessions.size() * messages);
+        List<StompSession> snapshot = new ArrayList<>(sessions);
+        long sendStart = System.nanoTime();
+        for (int i = 0; i < snapshot.size(); i++) {
+            StompSession session = snapshot.get(i);
+            int index = i;
+            long groupId = groupIds[index % groupIds.length];
+            // 모든 연결이 같은 순간에 보내지 않도록 첫 전송 시점을 interval 안에서 분산
+            long offset = intervalMs * index / Math.max(snapshot.size(), 1);
+            for (int m = 0; m < messages; m++) {
+                scheduler.schedule(() -> {
+                    try {
+                        ChatMessageDTO dto = new ChatMessageDTO(groupId, (long) index, "loadtest",
+                                "lt-" + index + "-" + System.nanoTime());
+                        session.send("/app/chat/study-group/" + groupId, dto);
+                        sent.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        sendFailures.incrementAndGet();
+                    } finally {
+                        sendsDone.countDown();
+                    }
+                }, offset + intervalMs * m, TimeUnit.MILLISECONDS);
+            }
+        }
+        sendsDone.await();
+
+        // 3) 남은 응답을 잠시 기다린 뒤 집계
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (roundTripMillis.size() < sent.get() && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        long sendElapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sendStart);
+        System.out.printf("sent=%d sendFailed=%d echoed=%d (delivered to all subscribers=%d) in %dms, %.1f msg/s%n",
+                sent.get(), sendFailures.get(), roundTripMillis.size(), received.get(), sendElapsed,
+                sent.get() * 1000.0 / Math.max(sendElapsed, 1));
+        System.out.printf("round trip latency %s%n", percentiles(roundTripMillis));
+
+        scheduler.shutdownNow();
+        snapshot.forEach(StompSession::disconnect);
+        stompClient.stop();
+        System.exit(0);
+    }
+
+    // 자기 연결이 보낸 메시지가 돌아오면 content 에 담긴 전송 시각으로 왕복 지연을 기록
+    private static final class EchoHandler implements StompFrameHandler {
+
+        private final String tag;
+        private final ConcurrentLinkedQueue<Long> roundTripMillis;
+        private final AtomicInteger received;
+
+        EchoHandler(String tag, ConcurrentLinkedQueue<Long> roundTripMillis, AtomicInteger received) {
+            this.tag = tag;
+            this.roundTripMillis = roundTripMillis;
+            this.received = received;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return ChatMessageDTO.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            received.incrementAndGet();
+            String content = ((ChatMessageDTO) payload).getContent();
+            if (content != null && content.startsWith(tag)) {
+                long sentAt = Long.parseLong(content.substring(tag.length()));
+                roundTripMillis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sentAt));
+            }
+        }
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static String percentiles(ConcurrentLinkedQueue<Long> samples) {
+        if (samples.isEmpty()) {
+            return "(no samples)";
+        }
+        long[] sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+        return String.format("p50=%dms p95=%dms p99=%dms max=%dms",
+                sorted[(int) (sorted.length * 0.50)],
+                sorted[Math.min((int) (sorted.length * 0.95), sorted.length - 1)],
+                sorted[Math.min((int) (sorted.length * 0.99), sorted.length - 1)],
+                sorted[sorted.length - 1]);
+    }
+}
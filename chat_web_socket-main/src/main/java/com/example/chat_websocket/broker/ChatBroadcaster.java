@@ -0,0 +1,24 @@
+package com.example.chat_websocket.broker;
+
+import com.example.chat_websocket.dto.ChatMessageDTO;
+import com.example.chat_websocket.dto.ChatMessageResponse;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지/기록 변경을 채팅 노드 전체에 전파합니다.
+ *
+ * chat.broker.mode=simple (기본): 이 노드의 simple broker 와 최근 메시지 버퍼에만 반영 (단일 노드, 개발용)
+ * chat.broker.mode=redis : Redis pub/sub 으로 모든 노드에 보내고, 각 노드가 자기 구독자와 버퍼에 반영
+ */
+public interface ChatBroadcaster {
+
+    // /topic/chat/study-group/{groupId} 구독자에게 전송
+    void broadcast(ChatMessageDTO message);
+
+    // 저장이 끝난 메시지를 최근 메시지 버퍼에 반영
+    void persisted(List<ChatMessageResponse> messages);
+
+    // 삭제된 메시지를 최근 메시지 버퍼에서 제거
+    void deleted(Long messageId);
+}
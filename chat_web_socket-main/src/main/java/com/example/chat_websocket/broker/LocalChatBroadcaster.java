@@ -0,0 +1,38 @@
+package com.example.chat_websocket.broker;
+
+import com.example.chat_websocket.dto.ChatMessageDTO;
+import com.example.chat_websocket.dto.ChatMessageResponse;
+import com.example.chat_websocket.service.RecentMessageBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 단일 노드용 전파: 이 JVM 의 simple broker 와 버퍼에만 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "simple", matchIfMissing = true)
+public class LocalChatBroadcaster implements ChatBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RecentMessageBuffer recentMessageBuffer;
+
+    @Override
+    public void broadcast(ChatMessageDTO message) {
+        messagingTemplate.convertAndSend("/topic/chat/study-group/" + message.getGroupId(), message);
+    }
+
+    @Override
+    public void persisted(List<ChatMessageResponse> messages) {
+        messages.forEach(recentMessageBuffer::append);
+    }
+
+    @Override
+    public void deleted(Long messageId) {
+        recentMessageBuffer.remove(messageId);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.chat_websocket.broker;
+
+import com.example.chat_websocket.dto.ChatMessageDTO;
+import com.example.chat_websocket.dto.ChatMessageResponse;
+import com.example.chat_websocket.service.RecentMessageBuffer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 여러 채팅 노드용 전파: Redis pub/sub 채널로 보내고, 구독한 모든 노드(자기 자신 포함)가 로컬에 반영합니다.
+ *
+ * 각 노드는 자기에게 연결된 WebSocket 세션만 simple broker 로 관리하므로,
+ * 같은 방의 사용자가 서로 다른 노드에 붙어 있어도 모든 노드가 메시지를 받아 자기 구독자에게 전달합니다.
+ * 구독 설정은 ChatBrokerRedisConfig 에 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisChatBroadcaster implements ChatBroadcaster {
+
+    public static final String MESSAGE_CHANNEL = "chat:message";
+    public static final String PERSISTED_CHANNEL = "chat:persisted";
+    public static final String DELETED_CHANNEL = "chat:deleted";
+
+    private static final TypeReference<List<ChatMessageResponse>> PERSISTED_TYPE = new TypeReference<>() {
+    };
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RecentMessageBuffer recentMessageBuffer;
+
+    @Override
+    public void broadcast(ChatMessageDTO message) {
+        publish(MESSAGE_CHANNEL, message);
+    }
+
+    @Override
+    public void persisted(List<ChatMessageResponse> messages) {
+        publish(PERSISTED_CHANNEL, messages);
+    }
+
+    @Override
+    public void deleted(Long messageId) {
+        redisTemplate.convertAndSend(DELETED_CHANNEL, String.valueOf(messageId));
+    }
+
+    // 채널 수신 처리
+    public void onMessage(String channel, String body) {
+        try {
+            switch (channel) {
+                case MESSAGE_CHANNEL -> {
+                    ChatMessageDTO message = objectMapper.readValue(body, ChatMessageDTO.class);
+                    messagingTemplate.convertAndSend("/topic/chat/study-group/" + message.getGroupId(), message);
+                }
+                case PERSISTED_CHANNEL -> objectMapper.readValue(body, PERSISTED_TYPE)
+                        .forEach(recentMessageBuffer::append);
+                case DELETED_CHANNEL -> recentMessageBuffer.remove(Long.valueOf(body));
+                default -> log.warn("알 수 없는 채팅 채널: {}", channel);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("채팅 pub/sub 메시지 처리 실패 ({})", channel, e);
+        }
+    }
+
+    private void publish(String channel, Object payload) {
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("채팅 메시지 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.chat_websocket.config;
+
+import com.example.chat_websocket.broker.RedisChatBroadcaster;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 채팅 pub/sub 구독 설정 (chat.broker.mode=redis 일 때만)
+ * 다른 노드에서 보낸 메시지도 이 노드의 구독자와 최근 메시지 버퍼에 반영합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class ChatBrokerRedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer chatBroadcastListener(RedisConnectionFactory connectionFactory,
+                                                               RedisChatBroadcaster broadcaster) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> broadcaster.onMessage(
+                        new String(message.getChannel(), StandardCharsets.UTF_8),
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                List.of(new ChannelTopic(RedisChatBroadcaster.MESSAGE_CHANNEL),
+                        new ChannelTopic(RedisChatBroadcaster.PERSISTED_CHANNEL),
+                        new ChannelTopic(RedisChatBroadcaster.DELETED_CHANNEL)));
+        return container;
+    }
+}
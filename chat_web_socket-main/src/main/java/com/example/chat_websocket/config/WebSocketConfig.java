@@ -1,23 +1,78 @@
-//package com.example.chat_websocket.config;
-//
-//import org.springframework.context.annotation.Configuration;
-//import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-//import org.springframework.web.socket.config.annotation.*;
-//
-//@Configuration
-//@EnableWebSocketMessageBroker
-//public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
-//
-//    @Override
-//    public void registerStompEndpoints(StompEndpointRegistry registry) {
-//        registry.addEndpoint("/ws")
-//                .setAllowedOrigins("http://localhost:5173")
-//                .withSockJS(); // 또는 .withSockJS() 생략 시 순수 WebSocket
-//    }
-//
-//    @Override
-//    public void configureMessageBroker(MessageBrokerRegistry registry) {
-//        registry.enableSimpleBroker("/topic");
-//        registry.setApplicationDestinationPrefixes("/app");
-//    }
-//}
\ No newline at end of file
+package com.example.chat_websocket.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.*;
+
+/**
+ * STOMP 엔드포인트/브로커 설정
+ *
+ * 구독은 노드마다 simple broker 가 관리하고, 노드 간 전파는 ChatBroadcaster 가 맡습니다.
+ * (chat.broker.mode=simple: 단일 노드, redis: Redis pub/sub 으로 모든 노드에 전파)
+ *
+ * SockJS 폴백 전송은 한 세션에 여러 HTTP 요청을 보내고 세션 상태는 처음 받은 노드에만 있으므로,
+ * 노드가 여럿이면 같은 세션의 요청이 모두 같은 노드로 가야 합니다.
+ * 게이트웨이가 경로의 SockJS session-id 로 노드를 고정합니다 (gateway SockJsSessionAffinityLoadBalancer).
+ * 게이트웨이를 거치지 않고 다른 로드밸런서 뒤에 둘 때도 /ws/** 에 같은 고정 라우팅이 필요합니다.
+ *
+ * clientInbound/OutboundChannel 실행기:
+ * spring.threads.virtual.enabled=true (Java 21) 이면 메시지마다 새 가상 스레드로 실행하고(풀링하지 않음),
+ * pool-size 는 동시에 처리 중인 메시지 수의 상한으로 쓰입니다. 상한에 닿으면 보내는 쪽이 기다립니다.
+ * 아니면 pool-size 를 지정했을 때만 플랫폼 스레드 풀 크기를 바꾸고, 0 이면 Spring 기본값을 씁니다.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    // 가상 스레드 모드에서 pool-size 를 지정하지 않았을 때의 동시 처리 상한
+    private static final int DEFAULT_VIRTUAL_CONCURRENCY = 1000;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${chat.websocket.inbound.pool-size:0}")
+    private int inboundPoolSize;
+
+    @Value("${chat.websocket.outbound.pool-size:0}")
+    private int outboundPoolSize;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOrigins("http://localhost:5173")
+                .withSockJS(); // 여러 노드일 때는 /ws/** 의 세션 고정 라우팅 필요 (위 설명)
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic");
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        configureExecutor(registration, "ws-inbound-", inboundPoolSize);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        configureExecutor(registration, "ws-outbound-", outboundPoolSize);
+    }
+
+    private void configureExecutor(ChannelRegistration registration, String threadNamePrefix, int poolSize) {
+        if (virtualThreads) {
+            // JPA 호출로 막혀도 캐리어 스레드를 점유하지 않도록 작업마다 가상 스레드 생성
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(poolSize > 0 ? poolSize : DEFAULT_VIRTUAL_CONCURRENCY);
+            registration.executor(executor);
+        } else if (poolSize > 0) {
+            registration.taskExecutor()
+                    .corePoolSize(poolSize)
+                    .maxPoolSize(poolSize);
+        }
+    }
+}
@@ -1,36 +1,37 @@
 package com.example.chat_websocket.controller;
 
+import com.example.chat_websocket.broker.ChatBroadcaster;
 import com.example.chat_websocket.dto.ChatMessageDTO;
-import com.example.chat_websocket.entity.ChatMessage;
-import com.example.chat_websocket.entity.StudyGroup;
-import com.example.chat_websocket.repository.ChatMessageRepository;
-import com.example.chat_websocket.repository.StudyGroupRepository;
+import com.example.chat_websocket.service.ChatMessageWriter;
+import com.example.chat_websocket.service.StudyGroupRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 @Controller
 @RequiredArgsConstructor
 public class ChatController {
 
-    private final SimpMessagingTemplate messagingTemplate;
-    private final ChatMessageRepository chatMessageRepository;
-    private final StudyGroupRepository studyGroupRepository;
+    private final ChatBroadcaster chatBroadcaster;
+    private final ChatMessageWriter chatMessageWriter;
+    private final StudyGroupRegistry studyGroupRegistry;
 
+    // true 면 수락된 멤버만 메시지를 보낼 수 있음
+    @Value("${chat.group-registry.require-membership:false}")
+    private boolean requireMembership;
+
+    // 브로드캐스트를 먼저 하고, 저장은 writer 가 배치로 비동기 처리
     @MessageMapping("/chat/study-group/{groupId}")
     public void sendMessage(ChatMessageDTO dto) {
-        StudyGroup group = studyGroupRepository.findById(dto.getGroupId())
-                .orElseThrow(() -> new RuntimeException("스터디 그룹이 존재하지 않습니다."));
-
-        ChatMessage message = ChatMessage.builder()
-                .userId(dto.getUserId())
-                .userName(dto.getUserName())
-                .content(dto.getContent())
-                .studyGroup(group)
-                .build();
+        if (!studyGroupRegistry.exists(dto.getGroupId())) {
+            throw new RuntimeException("스터디 그룹이 존재하지 않습니다.");
+        }
+        if (requireMembership && !studyGroupRegistry.isMember(dto.getGroupId(), dto.getUserId())) {
+            throw new RuntimeException("스터디 그룹 멤버만 메시지를 보낼 수 있습니다.");
+        }
 
-        chatMessageRepository.save(message);
-        messagingTemplate.convertAndSend("/topic/chat/study-group/" + dto.getGroupId(), dto);
+        chatBroadcaster.broadcast(dto);
+        chatMessageWriter.enqueue(dto);
     }
 }
\ No newline at end of file
@@ -1,23 +1,37 @@
 package com.example.chat_websocket.controller;
 
+import com.example.chat_websocket.broker.ChatBroadcaster;
+import com.example.chat_websocket.dto.ChatMessageResponse;
 import com.example.chat_websocket.entity.ChatMessage;
 import com.example.chat_websocket.entity.StudyGroup;
 import com.example.chat_websocket.repository.ChatMessageRepository;
 import com.example.chat_websocket.repository.StudyGroupRepository;
+import com.example.chat_websocket.service.RecentMessageBuffer;
+import com.example.chat_websocket.service.StudyGroupRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/groupChat")
 @RequiredArgsConstructor
 public class ChatRestController {
 
+    private static final int MAX_HISTORY_LIMIT = 100;
+
     private final StudyGroupRepository studyGroupRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final StudyGroupRegistry studyGroupRegistry;
+    private final RecentMessageBuffer recentMessageBuffer;
+    private final ChatBroadcaster chatBroadcaster;
 
     // ✅ 전체 StudyGroup 목록 조회 (선택사항)
     @GetMapping
@@ -40,15 +54,35 @@ public class ChatRestController {
         if (request.getStatus() == null) request.setStatus("모집중");
 
         StudyGroup saved = studyGroupRepository.save(request);
+        studyGroupRegistry.register(saved);
         return ResponseEntity.ok(saved);
     }
 
-    // ✅ StudyGroup 기반 메시지 전체 조회
+    // ✅ StudyGroup 기반 메시지 커서 조회 (before 보다 오래된 메시지 limit 개, 오래된 순)
+    // before 없이 호출하면 최신 메시지를 반환하고, 더 이전 기록은 받은 첫 메시지의 id 를 before 로 넘겨 조회
     @GetMapping("/{groupId}/messages")
-    public ResponseEntity<List<ChatMessage>> getMessages(@PathVariable Long groupId) {
-        return studyGroupRepository.findById(groupId)
-                .map(group -> ResponseEntity.ok(chatMessageRepository.findByStudyGroupIdOrderByCreatedAt(groupId)))
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<List<ChatMessageResponse>> getMessages(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        if (!studyGroupRegistry.exists(groupId)) {
+            return ResponseEntity.notFound().build();
+        }
+        if (limit < 1 || limit > MAX_HISTORY_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 최근 메시지는 메모리 버퍼에서, 버퍼 범위를 벗어나면 (study_group_id, id) 인덱스로 조회
+        List<ChatMessageResponse> messages = recentMessageBuffer.find(groupId, before, limit).orElseGet(() -> {
+            PageRequest page = PageRequest.of(0, limit);
+            List<ChatMessageResponse> latestFirst = new ArrayList<>(before == null
+                    ? chatMessageRepository.findLatest(groupId, page)
+                    : chatMessageRepository.findLatestBefore(groupId, before, page));
+            Collections.reverse(latestFirst);
+            return latestFirst;
+        });
+        return ResponseEntity.ok(messages);
     }
 
     // ✅ 메시지 직접 저장 (REST 방식)
@@ -57,17 +91,28 @@ public class ChatRestController {
             @PathVariable Long groupId,
             @RequestBody ChatMessage request
     ) {
-        return studyGroupRepository.findById(groupId).map(group -> {
-            ChatMessage message = new ChatMessage();
-            message.setUserId(request.getUserId());
-            message.setUserName(request.getUserName());
-            message.setContent(request.getContent());
-            message.setCreatedAt(LocalDateTime.now());
-            message.setStudyGroup(group);
+        if (!studyGroupRegistry.exists(groupId)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        ChatMessage message = new ChatMessage();
+        message.setUserId(request.getUserId());
+        message.setUserName(request.getUserName());
+        message.setContent(request.getContent());
+        message.setCreatedAt(LocalDateTime.now());
+        // 존재 확인은 레지스트리로 했으므로 SELECT 없이 참조만 연결
+        message.setStudyGroup(studyGroupRepository.getReferenceById(groupId));
 
-            ChatMessage saved = chatMessageRepository.save(message);
-            return ResponseEntity.ok(saved);
-        }).orElse(ResponseEntity.notFound().build());
+        ChatMessage saved = chatMessageRepository.save(message);
+        try {
+            chatBroadcaster.persisted(List.of(new ChatMessageResponse(saved.getId(), groupId, saved.getUserId(),
+                    saved.getUserName(), saved.getContent(), saved.getCreatedAt())));
+        } catch (RuntimeException e) {
+            // 저장은 끝났으므로 실패 응답 대신 이 노드의 버퍼를 버려 다음 조회 때 DB 에서 다시 채움
+            log.warn("저장된 채팅 메시지 전파 실패: {}", saved.getId(), e);
+            recentMessageBuffer.invalidate(List.of(groupId));
+        }
+        return ResponseEntity.ok(saved);
     }
 
     // ✅ 단일 메시지 조회
@@ -85,6 +130,13 @@ public class ChatRestController {
             return ResponseEntity.notFound().build();
         }
         chatMessageRepository.deleteById(messageId);
+        try {
+            chatBroadcaster.deleted(messageId);
+        } catch (RuntimeException e) {
+            // 전파에 실패해도 이 노드의 버퍼에서는 제거
+            log.warn("채팅 메시지 삭제 전파 실패: {}", messageId, e);
+            recentMessageBuffer.remove(messageId);
+        }
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,10 @@
+package com.example.chat_websocket.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 기록 조회용 메시지 (StudyGroup 엔티티 대신 groupId 만 포함)
+ */
+public record ChatMessageResponse(Long id, Long groupId, Long userId, String userName, String content,
+                                  LocalDateTime createdAt) {
+}
@@ -0,0 +1,7 @@
+package com.example.chat_websocket.dto;
+
+/**
+ * 존재/정원 확인용 StudyGroup 요약 (description, members 제외)
+ */
+public record StudyGroupSummary(Long id, String status, Integer maxMember) {
+}
@@ -7,6 +7,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
+// 그룹별 커서 조회(WHERE study_group_id = ? AND id < ? ORDER BY id DESC)용 인덱스
+@Table(name = "chat_message", indexes = {
+        @Index(name = "idx_chat_message_group_id", columnList = "study_group_id, id")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,9 +1,24 @@
 package com.example.chat_websocket.repository;
 
+import com.example.chat_websocket.dto.ChatMessageResponse;
 import com.example.chat_websocket.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-    List<ChatMessage> findByStudyGroupIdOrderByCreatedAt(Long groupId);
+    String RESPONSE_SELECT = "SELECT new com.example.chat_websocket.dto.ChatMessageResponse("
+            + "m.id, m.studyGroup.id, m.userId, m.userName, m.content, m.createdAt) FROM ChatMessage m ";
+
+    // 그룹의 최신 메시지부터 (idx_chat_message_group_id 사용)
+    @Query(RESPONSE_SELECT + "WHERE m.studyGroup.id = :groupId ORDER BY m.id DESC")
+    List<ChatMessageResponse> findLatest(@Param("groupId") Long groupId, Pageable pageable);
+
+    // before 보다 오래된 메시지를 최신순으로
+    @Query(RESPONSE_SELECT + "WHERE m.studyGroup.id = :groupId AND m.id < :before ORDER BY m.id DESC")
+    List<ChatMessageResponse> findLatestBefore(@Param("groupId") Long groupId, @Param("before") Long before,
+                                               Pageable pageable);
 }
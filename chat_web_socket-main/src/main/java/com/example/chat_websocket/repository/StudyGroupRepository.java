@@ -1,7 +1,19 @@
 package com.example.chat_websocket.repository;
 
+import com.example.chat_websocket.dto.StudyGroupSummary;
 import com.example.chat_websocket.entity.StudyGroup;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface StudyGroupRepository extends JpaRepository<StudyGroup, Long> {
+
+    @Query("SELECT new com.example.chat_websocket.dto.StudyGroupSummary(g.id, g.status, g.maxMember) FROM StudyGroup g")
+    List<StudyGroupSummary> findAllSummaries();
+
+    @Query("SELECT new com.example.chat_websocket.dto.StudyGroupSummary(g.id, g.status, g.maxMember) FROM StudyGroup g WHERE g.id = :id")
+    Optional<StudyGroupSummary> findSummaryById(@Param("id") Long id);
 }
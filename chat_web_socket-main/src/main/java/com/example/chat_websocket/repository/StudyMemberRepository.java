@@ -0,0 +1,18 @@
+package com.example.chat_websocket.repository;
+
+import com.example.chat_websocket.entity.StudyMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface StudyMemberRepository extends JpaRepository<StudyMember, Long> {
+
+    // [studyGroupId, userId] 목록
+    @Query("SELECT m.study.id, m.userId FROM StudyMember m WHERE m.status = :status")
+    List<Object[]> findGroupAndUserIdsByStatus(@Param("status") String status);
+
+    @Query("SELECT m.userId FROM StudyMember m WHERE m.study.id = :groupId AND m.status = :status")
+    List<Long> findUserIdsByGroupIdAndStatus(@Param("groupId") Long groupId, @Param("status") String status);
+}
@@ -0,0 +1,257 @@
+package com.example.chat_websocket.service;
+
+import com.example.chat_websocket.broker.ChatBroadcaster;
+import com.example.chat_websocket.dto.ChatMessageDTO;
+import com.example.chat_websocket.dto.ChatMessageResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 write-behind 저장기입니다.
+ *
+ * 메시지 핸들러는 브로드캐스트 후 큐에 넣기만 하고 바로 반환하며,
+ * 전용 writer 스레드가 batch-size 만큼 모이거나 flush-interval-ms 가 지나면 한 번의 JDBC 배치 INSERT 로 저장합니다.
+ * 큐가 가득 차면 메시지를 버리지 않고 호출 스레드에서 바로 저장합니다 (자연스러운 backpressure).
+ * 종료 시에는 큐에 남은 메시지를 모두 저장한 뒤 멈춥니다.
+ *
+ * 배치 INSERT 는 한 트랜잭션으로 실행해 실패 시 일부만 저장되는 일이 없게 합니다.
+ * 연결 끊김, 락 대기 시간 초과 같은 일시적 오류만 재시도하고,
+ * 무결성 위반(삭제된 그룹, 너무 긴 내용 등)처럼 재시도해도 같은 결과인 오류는 한 건씩 다시 저장해 문제 행만 버립니다.
+ *
+ * 저장된 메시지는 생성된 id 와 함께 ChatBroadcaster 를 통해 RecentMessageBuffer 에 추가됩니다.
+ *
+ * 지표: chat.message.queue.depth, chat.message.flush (배치 저장 시간), chat.message.persist.failed
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO chat_message (user_id, user_name, content, study_group_id, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private record PendingMessage(Long groupId, Long userId, String userName, String content, LocalDateTime createdAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatBroadcaster chatBroadcaster;
+    private final RecentMessageBuffer recentMessageBuffer;
+    private final BlockingQueue<PendingMessage> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final int maxRetries;
+
+    private final Timer flushTimer;
+    private final Counter persistFailures;
+
+    private volatile boolean running = true;
+    private Thread writerThread;
+
+    public ChatMessageWriter(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ChatBroadcaster chatBroadcaster,
+                             RecentMessageBuffer recentMessageBuffer,
+                             MeterRegistry meterRegistry,
+                             @Value("${chat.message.writer.queue-capacity:10000}") int queueCapacity,
+                             @Value("${chat.message.writer.batch-size:500}") int batchSize,
+                             @Value("${chat.message.writer.flush-interval-ms:200}") long flushIntervalMs,
+                             @Value("${chat.message.writer.max-retries:3}") int maxRetries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chatBroadcaster = chatBroadcaster;
+        this.recentMessageBuffer = recentMessageBuffer;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxRetries = maxRetries;
+
+        Gauge.builder("chat.message.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.message.flush")
+                .description("채팅 메시지 배치 INSERT 시간")
+                .register(meterRegistry);
+        this.persistFailures = Counter.builder("chat.message.persist.failed").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread = new Thread(this::runWriter, "chat-message-writer");
+        writerThread.start();
+    }
+
+    /**
+     * 메시지를 저장 대기열에 넣습니다. 대기열이 가득 차면 호출 스레드에서 바로 저장합니다.
+     */
+    public void enqueue(ChatMessageDTO dto) {
+        PendingMessage message = new PendingMessage(
+                dto.getGroupId(), dto.getUserId(), dto.getUserName(), dto.getContent(), LocalDateTime.now());
+        if (!running || !queue.offer(message)) {
+            insert(List.of(message));
+        }
+    }
+
+    private void runWriter() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 첫 메시지 이후 flush-interval-ms 동안 batch-size 까지 모음
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료는 running 으로 판단하므로 모은 메시지까지만 저장하고 계속 진행
+            }
+            if (!batch.isEmpty()) {
+                flushWithRetry(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushWithRetry(List<PendingMessage> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                flushTimer.record(() -> insert(batch));
+                return;
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    if (batch.size() > 1) {
+                        // 배치 안의 한 행 때문에 전체가 실패했을 수 있으므로 한 건씩 저장해 문제 행만 버림
+                        log.warn("채팅 메시지 {}건 배치 저장 실패, 한 건씩 다시 저장합니다.", batch.size(), e);
+                        for (PendingMessage message : batch) {
+                            flushWithRetry(List.of(message));
+                        }
+                    } else {
+                        persistFailures.increment(batch.size());
+                        log.error("채팅 메시지 저장 실패로 버립니다. groupId={}, userId={}",
+                                batch.get(0).groupId(), batch.get(0).userId(), e);
+                    }
+                    return;
+                }
+                if (attempt > maxRetries) {
+                    persistFailures.increment(batch.size());
+                    log.error("채팅 메시지 {}건 저장 실패, 재시도 {}회 초과로 버립니다.", batch.size(), maxRetries, e);
+                    return;
+                }
+                log.warn("채팅 메시지 {}건 저장 실패, 재시도합니다. ({}/{})", batch.size(), attempt, maxRetries, e);
+                try {
+                    Thread.sleep(flushIntervalMs * attempt);
+                } catch (InterruptedException ignored) {
+                    // 대기 없이 바로 재시도
+                }
+            }
+        }
+    }
+
+    // 다시 시도하면 성공할 수 있는 오류 (연결 실패, 데드락/락 대기 시간 초과 등)
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    // 배치 INSERT 를 한 트랜잭션으로 저장하고, 커밋 후 생성된 id 로 (모든 노드의) 최근 메시지 버퍼에 추가
+    private void insert(List<PendingMessage> messages) {
+        List<ChatMessageResponse> persisted = transactionTemplate.execute(status -> insertBatch(messages));
+        try {
+            chatBroadcaster.persisted(persisted);
+        } catch (RuntimeException e) {
+            // 저장은 끝났으므로 재시도하지 않고, 빈틈이 생긴 이 노드의 버퍼를 버려 다음 조회 때 DB 에서 다시 채움
+            log.warn("저장된 채팅 메시지 {}건 전파 실패", persisted.size(), e);
+            recentMessageBuffer.invalidate(persisted.stream().map(ChatMessageResponse::groupId).distinct().toList());
+        }
+    }
+
+    private List<ChatMessageResponse> insertBatch(List<PendingMessage> messages) {
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PendingMessage m = messages.get(i);
+                        ps.setObject(1, m.userId());
+                        ps.setString(2, m.userName());
+                        ps.setString(3, m.content());
+                        ps.setObject(4, m.groupId());
+                        ps.setTimestamp(5, Timestamp.valueOf(m.createdAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return messages.size();
+                    }
+                },
+                keys);
+
+        List<Map<String, Object>> keyList = keys.getKeyList();
+        List<ChatMessageResponse> persisted = new ArrayList<>(keyList.size());
+        for (int i = 0; i < keyList.size() && i < messages.size(); i++) {
+            PendingMessage m = messages.get(i);
+            long id = ((Number) keyList.get(i).values().iterator().next()).longValue();
+            persisted.add(new ChatMessageResponse(id, m.groupId(), m.userId(), m.userName(), m.content(), m.createdAt()));
+        }
+        return persisted;
+    }
+
+    /**
+     * 종료 시 대기열을 모두 저장한 뒤 writer 스레드를 멈춥니다.
+     * writer 는 poll 타임아웃마다 running 을 확인하므로 인터럽트하지 않습니다 (JDBC 호출 도중 끊기지 않도록).
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        if (writerThread.isAlive()) {
+            log.warn("채팅 메시지 writer 가 30초 안에 종료되지 않았습니다. 남은 메시지: {}건", queue.size());
+            return;
+        }
+        // writer 종료 직전에 들어온 메시지
+        List<PendingMessage> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            flushWithRetry(rest);
+        }
+    }
+}
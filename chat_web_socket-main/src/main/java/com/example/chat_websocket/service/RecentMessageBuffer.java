@@ -0,0 +1,120 @@
+package com.example.chat_websocket.service;
+
+import com.example.chat_websocket.dto.ChatMessageResponse;
+import com.example.chat_websocket.repository.ChatMessageRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 그룹별 최근 메시지 링 버퍼입니다.
+ *
+ * 그룹마다 저장이 끝난 최신 메시지 recent-size 개를 id 순으로 들고 있어, 방 입장 시 기록 조회를 쿼리 없이 처리합니다.
+ * 그룹의 버퍼는 처음 조회될 때 DB 에서 최신 recent-size 개로 채우고, 이후에는 저장된 메시지를 append 로 이어 붙입니다.
+ * 아직 버퍼가 없는 그룹의 append 는 무시합니다 (다음 적재 때 DB 에서 함께 읽힘).
+ * 요청 범위를 버퍼만으로 채울 수 없으면 empty 를 반환하고, 호출 쪽이 DB 커서 조회로 넘어갑니다.
+ *
+ * 버퍼를 두는 그룹 수는 max-groups 로 제한하고, idle-ttl-seconds 동안 조회/추가가 없던 그룹의 버퍼는 버립니다.
+ * 저장된 메시지를 전파하지 못했다면 그 그룹의 버퍼를 버려(invalidate), 다음 조회 때 DB 에서 다시 채웁니다.
+ */
+@Component
+public class RecentMessageBuffer {
+
+    private static final class Ring {
+        private final NavigableMap<Long, ChatMessageResponse> messages = new TreeMap<>();
+        // 그룹의 전체 기록이 버퍼에 들어 있는지 (적재 시 recent-size 보다 적었고 이후 밀려난 것이 없음)
+        private boolean complete;
+    }
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final int capacity;
+    private final Cache<Long, Ring> rings;
+
+    public RecentMessageBuffer(ChatMessageRepository chatMessageRepository,
+                               @Value("${chat.history.recent-size:100}") int capacity,
+                               @Value("${chat.history.max-groups:10000}") long maxGroups,
+                               @Value("${chat.history.idle-ttl-seconds:1800}") long idleTtlSeconds) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.capacity = capacity;
+        this.rings = Caffeine.newBuilder()
+                .maximumSize(maxGroups)
+                .expireAfterAccess(Duration.ofSeconds(idleTtlSeconds))
+                .build();
+    }
+
+    /**
+     * before 보다 오래된 메시지를 최대 limit 개, 오래된 순으로 반환합니다 (before 가 null 이면 최신부터).
+     * 버퍼만으로 답할 수 없으면 empty.
+     */
+    public Optional<List<ChatMessageResponse>> find(Long groupId, Long before, int limit) {
+        if (limit > capacity) {
+            return Optional.empty();
+        }
+        Ring ring = rings.get(groupId, this::load);
+        synchronized (ring) {
+            NavigableMap<Long, ChatMessageResponse> candidates =
+                    before == null ? ring.messages : ring.messages.headMap(before, false);
+            if (candidates.size() < limit && !ring.complete) {
+                return Optional.empty();
+            }
+            List<ChatMessageResponse> page = new ArrayList<>(Math.min(limit, candidates.size()));
+            for (ChatMessageResponse message : candidates.descendingMap().values()) {
+                if (page.size() == limit) {
+                    break;
+                }
+                page.add(message);
+            }
+            Collections.reverse(page);
+            return Optional.of(page);
+        }
+    }
+
+    // 저장이 끝난 메시지 추가 (버퍼가 적재된 그룹만)
+    public void append(ChatMessageResponse message) {
+        rings.asMap().computeIfPresent(message.groupId(), (groupId, ring) -> {
+            synchronized (ring) {
+                ring.messages.put(message.id(), message);
+                while (ring.messages.size() > capacity) {
+                    ring.messages.pollFirstEntry();
+                    ring.complete = false;
+                }
+            }
+            return ring;
+        });
+    }
+
+    // 메시지 삭제 반영
+    public void remove(Long messageId) {
+        for (Ring ring : rings.asMap().values()) {
+            synchronized (ring) {
+                ring.messages.remove(messageId);
+            }
+        }
+    }
+
+    // 버퍼를 버려 다음 조회 때 DB 에서 다시 적재 (저장된 메시지를 전파하지 못해 버퍼에 빈틈이 생긴 경우)
+    public void invalidate(Collection<Long> groupIds) {
+        rings.invalidateAll(groupIds);
+    }
+
+    private Ring load(Long groupId) {
+        List<ChatMessageResponse> latest = chatMessageRepository.findLatest(groupId, PageRequest.of(0, capacity));
+        Ring ring = new Ring();
+        for (ChatMessageResponse message : latest) {
+            ring.messages.put(message.id(), message);
+        }
+        ring.complete = latest.size() < capacity;
+        return ring;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.chat_websocket.service;
+
+import com.example.chat_websocket.dto.StudyGroupSummary;
+import com.example.chat_websocket.entity.StudyGroup;
+import com.example.chat_websocket.repository.StudyGroupRepository;
+import com.example.chat_websocket.repository.StudyMemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 hot path 용 스터디 그룹 레지스트리입니다.
+ *
+ * 그룹 ID -> (status, maxMember, 수락된 멤버 ID 집합) 을 메모리에 두고 존재/멤버 여부를 DB 없이 답합니다.
+ * 시작 시 전체를 적재하고, 그룹 생성 시 register 로 바로 반영하며,
+ * 다른 인스턴스나 외부에서 바뀐 그룹/멤버는 chat.group-registry.refresh-interval-ms 주기의 전체 재적재로 맞춥니다.
+ * 레지스트리에 없는 ID 는 DB 에서 확인해 채웁니다.
+ * DB 에도 없는 ID 는 missing-ttl-ms 동안만 없는 것으로 기억하고(최대 missing-max-size 개), 그 뒤에는 다시 DB 를 확인합니다.
+ * 다른 인스턴스에서 막 만든 그룹이 재적재 주기 내내 없는 그룹으로 거부되지 않도록 TTL 은 짧게 둡니다.
+ */
+@Slf4j
+@Component
+public class StudyGroupRegistry {
+
+    static final String ACCEPTED = "수락";
+
+    /**
+     * @param status    모집 상태 (모집중, 마감)
+     * @param maxMember 최대 인원
+     * @param members   수락된 멤버 userId (불변)
+     */
+    public record GroupEntry(String status, Integer maxMember, Set<Long> members) {
+    }
+
+    private final StudyGroupRepository studyGroupRepository;
+    private final StudyMemberRepository studyMemberRepository;
+
+    private volatile Map<Long, GroupEntry> groups = new ConcurrentHashMap<>();
+    // DB 에도 없던 그룹 ID (존재하지 않는 ID 로 반복 요청해도 DB 조회는 TTL 당 한 번)
+    private final Cache<Long, Boolean> missing;
+
+    public StudyGroupRegistry(StudyGroupRepository studyGroupRepository,
+                              StudyMemberRepository studyMemberRepository,
+                              @Value("${chat.group-registry.missing-max-size:10000}") long missingMaxSize,
+                              @Value("${chat.group-registry.missing-ttl-ms:2000}") long missingTtlMs) {
+        this.studyGroupRepository = studyGroupRepository;
+        this.studyMemberRepository = studyMemberRepository;
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(missingMaxSize)
+                .expireAfterWrite(Duration.ofMillis(missingTtlMs))
+                .build();
+    }
+
+    @PostConstruct
+    public void load() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${chat.group-registry.refresh-interval-ms:60000}",
+            initialDelayString = "${chat.group-registry.refresh-interval-ms:60000}")
+    public void refresh() {
+        Map<Long, Set<Long>> membersByGroup = new HashMap<>();
+        for (Object[] row : studyMemberRepository.findGroupAndUserIdsByStatus(ACCEPTED)) {
+            if (row[1] == null) {
+                continue;
+            }
+            membersByGroup.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((Long) row[1]);
+        }
+
+        Map<Long, GroupEntry> loaded = new ConcurrentHashMap<>();
+        for (StudyGroupSummary group : studyGroupRepository.findAllSummaries()) {
+            loaded.put(group.id(), new GroupEntry(group.status(), group.maxMember(),
+                    Set.copyOf(membersByGroup.getOrDefault(group.id(), Set.of()))));
+        }
+        groups = loaded;
+        missing.invalidateAll();
+        log.debug("스터디 그룹 레지스트리 재적재: {}개", loaded.size());
+    }
+
+    public boolean exists(Long groupId) {
+        return find(groupId).isPresent();
+    }
+
+    public boolean isMember(Long groupId, Long userId) {
+        return find(groupId).map(group -> group.members().contains(userId)).orElse(false);
+    }
+
+    public Optional<GroupEntry> find(Long groupId) {
+        if (groupId == null) {
+            return Optional.empty();
+        }
+        GroupEntry entry = groups.get(groupId);
+        if (entry != null) {
+            return Optional.of(entry);
+        }
+        if (missing.getIfPresent(groupId) != null) {
+            return Optional.empty();
+        }
+        return loadOne(groupId);
+    }
+
+    // 그룹 생성 직후 등록 (아직 멤버 없음)
+    public void register(StudyGroup group) {
+        groups.put(group.getId(), new GroupEntry(group.getStatus(), group.getMaxMember(), Set.of()));
+        missing.invalidate(group.getId());
+    }
+
+    // 레지스트리에 없는 그룹을 DB 에서 한 번 확인
+    private Optional<GroupEntry> loadOne(Long groupId) {
+        Optional<GroupEntry> entry = studyGroupRepository.findSummaryById(groupId)
+                .map(group -> new GroupEntry(group.status(), group.maxMember(),
+                        studyMemberRepository.findUserIdsByGroupIdAndStatus(groupId, ACCEPTED).stream()
+                                .filter(Objects::nonNull)
+                                .collect(Collectors.toUnmodifiableSet())));
+        if (entry.isPresent()) {
+            groups.put(groupId, entry.get());
+        } else {
+            missing.put(groupId, Boolean.TRUE);
+        }
+        return entry;
+    }
+}
@@ -0,0 +1,110 @@
+package com.study.backend.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.backend.dto.RedisUserInfo;
+import com.study.backend.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 값 직렬화 비교: 이전 JSON 형식(GenericJackson2Json / ObjectMapper) vs 버전 포함 바이너리
+ *
+ * 직렬화 크기는 시작 시 한 번 출력하고, 직렬화/역직렬화 시간은 각 벤치마크로 측정합니다.
+ * 실행: ./gradlew :client:jmh -PjmhIncludes=RedisCodecBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RedisCodecBenchmark {
+
+    private UserJsonSerializer userJson;
+    private UserBinarySerializer userBinary;
+    private RedisUserInfoJsonSerializer sessionJson;
+    private RedisUserInfoBinarySerializer sessionBinary;
+
+    private User user;
+    private RedisUserInfo session;
+
+    private byte[] userJsonBytes;
+    private byte[] userBinaryBytes;
+    private byte[] sessionJsonBytes;
+    private byte[] sessionBinaryBytes;
+
+    @Setup
+    public void setUp() {
+        userJson = new UserJsonSerializer();
+        userBinary = new UserBinarySerializer(null, false);
+        sessionJson = new RedisUserInfoJsonSerializer(new ObjectMapper());
+        sessionBinary = new RedisUserInfoBinarySerializer(null, false);
+
+        user = new User();
+        user.setuId(123456L);
+        user.setuName("홍길동");
+        user.setuPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1tZ8y8JwN0iH8a7dL3TqY1e");
+        user.setuEmail("gildong.hong@example.com");
+        user.setuRole("USER");
+        user.setEmailVerified(true);
+        session = new RedisUserInfo("gildong.hong@example.com", "홍길동", "USER");
+
+        userJsonBytes = userJson.serialize(user);
+        userBinaryBytes = userBinary.serialize(user);
+        sessionJsonBytes = sessionJson.serialize(session);
+        sessionBinaryBytes = sessionBinary.serialize(session);
+
+        System.out.printf("%nUser bytes: json=%d binary=%d, RedisUserInfo bytes: json=%d binary=%d%n",
+                userJsonBytes.length, userBinaryBytes.length, sessionJsonBytes.length, sessionBinaryBytes.length);
+    }
+
+    @Benchmark
+    public byte[] userSerializeJson() {
+        return userJson.serialize(user);
+    }
+
+    @Benchmark
+    public byte[] userSerializeBinary() {
+        return userBinary.serialize(user);
+    }
+
+    @Benchmark
+    public User userDeserializeJson() {
+        return userJson.deserialize(userJsonBytes);
+    }
+
+    @Benchmark
+    public User userDeserializeBinary() {
+        return userBinary.deserialize(userBinaryBytes);
+    }
+
+    @Benchmark
+    public byte[] sessionSerializeJson() {
+        return sessionJson.serialize(session);
+    }
+
+    @Benchmark
+    public byte[] sessionSerializeBinary() {
+        return sessionBinary.serialize(session);
+    }
+
+    @Benchmark
+    public RedisUserInfo sessionDeserializeJson() {
+        return sessionJson.deserialize(sessionJsonBytes);
+    }
+
+    @Benchmark
+    public RedisUserInfo sessionDeserializeBinary() {
+        return sessionBinary.deserialize(sessionBinaryBytes);
+    }
+}
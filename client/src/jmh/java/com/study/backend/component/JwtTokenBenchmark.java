@@ -0,0 +1,78 @@
+package com.study.backend.component;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 토큰 발급/검증 수
+ *
+ * - issue: JwtToken.generateTokenWithClaims (캐시된 서명 키 사용)
+ * - verify: JwtToken.parseClaims (캐시된 파서로 한 번만 파싱)
+ * - verifyRebuildingKeyAndParser: 이전 방식처럼 호출마다 키를 디코딩하고 파서를 새로 만든 경우 (비교 기준)
+ * - meValidateThenExtract: 이전 /me 처럼 같은 토큰을 검증 후 다시 파싱한 경우 (비교 기준)
+ *
+ * 실행: ./gradlew :client:jmh -PjmhIncludes=JwtTokenBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class JwtTokenBenchmark {
+
+    private static final String SECRET_KEY = "dGhpc19pc19hX3Zlcnlfc2VjdXJlX3Rlc3Rfc2VjcmV0X2tleQ==";
+
+    private JwtToken jwtToken;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtToken = new JwtToken();
+        token = jwtToken.generateTokenWithClaims("gildong.hong@example.com", "홍길동", "USER");
+    }
+
+    @Benchmark
+    public String issue() {
+        return jwtToken.generateTokenWithClaims("gildong.hong@example.com", "홍길동", "USER");
+    }
+
+    @Benchmark
+    public Optional<Claims> verify() {
+        return jwtToken.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims verifyRebuildingKeyAndParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public String meValidateThenExtract() {
+        if (!jwtToken.validateToken(token)) {
+            throw new IllegalStateException("invalid token");
+        }
+        return jwtToken.getUserEmail(token);
+    }
+}
@@ -0,0 +1,106 @@
+package com.study.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.backend.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Redis 앞단에 두는 인스턴스 로컬 사용자 캐시(L1)입니다.
+ *
+ * 자주 조회되는 사용자는 네트워크 왕복과 JSON 역직렬화 없이 메모리에서 바로 반환합니다.
+ * 사용자 정보가 바뀌면 user:cache:invalidate 채널로 사용자 ID 를 발행해 모든 인스턴스의 L1 을 비웁니다.
+ * 메시지가 유실되더라도 짧은 TTL 이 지나면 Redis 값으로 다시 채워집니다.
+ *
+ * User 는 변경 가능한 엔티티이므로 넣을 때와 꺼낼 때 모두 복사본을 씁니다.
+ * 호출 쪽이 setter 로 값을 바꿔도(저장 전이거나 저장에 실패해도) 캐시와 다른 스레드에는 보이지 않습니다.
+ * hit/miss/eviction 지표는 cache.* (name=userById, userByEmail) 으로 Actuator 에 노출됩니다.
+ */
+@Component
+public class UserNearCache {
+
+    public static final String INVALIDATION_CHANNEL = "user:cache:invalidate";
+
+    private final Cache<Long, User> byId;
+    // 이메일 -> 사용자 ID 색인 (값은 byId 에만 있으므로 byId 를 비우면 이메일 조회도 함께 무효화됨)
+    private final Cache<String, Long> idByEmail;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    public UserNearCache(@Value("${user.near-cache.max-size:10000}") long maxSize,
+                         @Value("${user.near-cache.ttl-seconds:30}") long ttlSeconds,
+                         RedisTemplate<String, String> stringRedisTemplate,
+                         MeterRegistry meterRegistry) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.idByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.stringRedisTemplate = stringRedisTemplate;
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "userById");
+        CaffeineCacheMetrics.monitor(meterRegistry, idByEmail, "userByEmail");
+    }
+
+    public User getById(Long uId) {
+        return copyOf(byId.getIfPresent(uId));
+    }
+
+    public User getByEmail(String uEmail) {
+        Long uId = idByEmail.getIfPresent(uEmail);
+        if (uId == null) {
+            return null;
+        }
+        User user = byId.getIfPresent(uId);
+        // 그 사이 이메일이 바뀐 사용자면 색인이 낡은 것이므로 없는 것으로 처리
+        if (user == null || !uEmail.equals(user.getuEmail())) {
+            return null;
+        }
+        return copyOf(user);
+    }
+
+    public void put(User user) {
+        byId.put(user.getuId(), copyOf(user));
+        if (user.getuEmail() != null) {
+            idByEmail.put(user.getuEmail(), user.getuId());
+        }
+    }
+
+    /**
+     * 이 인스턴스의 L1 을 비우고, 다른 인스턴스에도 무효화를 알립니다.
+     * Redis 값이 갱신/삭제된 뒤에 호출해야 다른 인스턴스가 이전 값을 다시 채우지 않습니다.
+     */
+    public void invalidate(Long uId) {
+        invalidateLocal(uId);
+        stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(uId));
+    }
+
+    // 무효화 알림 수신 시 로컬 캐시만 비움 (이메일 색인은 byId 를 거쳐 조회되므로 따로 지우지 않음)
+    public void invalidateLocal(Long uId) {
+        byId.invalidate(uId);
+    }
+
+    private static User copyOf(User user) {
+        if (user == null) {
+            return null;
+        }
+        User copy = new User();
+        copy.setuId(user.getuId());
+        copy.setuName(user.getuName());
+        copy.setuPassword(user.getuPassword());
+        copy.setuEmail(user.getuEmail());
+        copy.setuRole(user.getuRole());
+        copy.setDeletedAt(user.getDeletedAt());
+        copy.setEmailVerified(user.getEmailVerified());
+        return copy;
+    }
+}
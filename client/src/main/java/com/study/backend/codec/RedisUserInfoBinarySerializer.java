@@ -0,0 +1,39 @@
+package com.study.backend.codec;
+
+import com.study.backend.dto.RedisUserInfo;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * refresh:&lt;token&gt; 세션 값(RedisUserInfo)의 바이너리 직렬화
+ *
+ * v1: uEmail, uName, uRole
+ */
+public class RedisUserInfoBinarySerializer extends VersionedBinarySerializer<RedisUserInfo> {
+
+    private static final byte V1 = 1;
+
+    public RedisUserInfoBinarySerializer(RedisSerializer<RedisUserInfo> legacy, boolean writeLegacy) {
+        super(legacy, writeLegacy);
+    }
+
+    @Override
+    protected byte version() {
+        return V1;
+    }
+
+    @Override
+    protected void write(DataOutputStream out, RedisUserInfo info) throws IOException {
+        writeNullableString(out, info.getuEmail());
+        writeNullableString(out, info.getuName());
+        writeNullableString(out, info.getuRole());
+    }
+
+    @Override
+    protected RedisUserInfo read(DataInputStream in, byte version) throws IOException {
+        return new RedisUserInfo(readNullableString(in), readNullableString(in), readNullableString(in));
+    }
+}
@@ -0,0 +1,50 @@
+package com.study.backend.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.backend.dto.RedisUserInfo;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * 이전 형식(ObjectMapper 로 만든 JSON 문자열)의 refresh 세션 값을 읽고 쓰는 직렬화기
+ * RedisUserInfo 에 기본 생성자가 없어 트리로 읽은 뒤 생성자로 만듭니다.
+ */
+public class RedisUserInfoJsonSerializer implements RedisSerializer<RedisUserInfo> {
+
+    private final ObjectMapper objectMapper;
+
+    public RedisUserInfoJsonSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] serialize(RedisUserInfo value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write RedisUserInfo as JSON", e);
+        }
+    }
+
+    @Override
+    public RedisUserInfo deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(bytes);
+            return new RedisUserInfo(
+                    node.path("uEmail").asText(null),
+                    node.path("uName").asText(null),
+                    node.path("uRole").asText(null));
+        } catch (IOException e) {
+            throw new SerializationException("Could not read RedisUserInfo JSON", e);
+        }
+    }
+}
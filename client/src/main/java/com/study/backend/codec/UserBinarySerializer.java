@@ -0,0 +1,67 @@
+package com.study.backend.codec;
+
+import com.study.backend.entity.User;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * user:&lt;id&gt;, user:email:&lt;email&gt; 캐시 값(User)의 바이너리 직렬화
+ *
+ * v1: uId, uName, uPassword, uEmail, uRole, deletedAt(epoch 초 + 나노), emailVerified
+ */
+public class UserBinarySerializer extends VersionedBinarySerializer<User> {
+
+    private static final byte V1 = 1;
+
+    public UserBinarySerializer(RedisSerializer<User> legacy, boolean writeLegacy) {
+        super(legacy, writeLegacy);
+    }
+
+    @Override
+    protected byte version() {
+        return V1;
+    }
+
+    @Override
+    protected void write(DataOutputStream out, User user) throws IOException {
+        out.writeBoolean(user.getuId() != null);
+        if (user.getuId() != null) {
+            out.writeLong(user.getuId());
+        }
+        writeNullableString(out, user.getuName());
+        writeNullableString(out, user.getuPassword());
+        writeNullableString(out, user.getuEmail());
+        writeNullableString(out, user.getuRole());
+        LocalDateTime deletedAt = user.getDeletedAt();
+        out.writeBoolean(deletedAt != null);
+        if (deletedAt != null) {
+            out.writeLong(deletedAt.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(deletedAt.getNano());
+        }
+        // null / false / true
+        Boolean emailVerified = user.getEmailVerified();
+        out.writeByte(emailVerified == null ? 0 : emailVerified ? 2 : 1);
+    }
+
+    @Override
+    protected User read(DataInputStream in, byte version) throws IOException {
+        User user = new User();
+        user.setuId(in.readBoolean() ? in.readLong() : null);
+        user.setuName(readNullableString(in));
+        user.setuPassword(readNullableString(in));
+        user.setuEmail(readNullableString(in));
+        user.setuRole(readNullableString(in));
+        if (in.readBoolean()) {
+            user.setDeletedAt(LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC));
+        }
+        byte emailVerified = in.readByte();
+        user.setEmailVerified(emailVerified == 0 ? null : emailVerified == 2);
+        // v2 이상에서 뒤에 추가된 필드는 무시
+        return user;
+    }
+}
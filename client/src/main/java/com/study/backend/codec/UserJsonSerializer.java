@@ -0,0 +1,24 @@
+package com.study.backend.codec;
+
+import com.study.backend.entity.User;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 이전 형식(GenericJackson2JsonRedisSerializer, @class 포함 JSON)의 User 캐시 값을 읽고 쓰는 직렬화기
+ */
+public class UserJsonSerializer implements RedisSerializer<User> {
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+
+    @Override
+    public byte[] serialize(User value) throws SerializationException {
+        return json.serialize(value);
+    }
+
+    @Override
+    public User deserialize(byte[] bytes) throws SerializationException {
+        return json.deserialize(bytes, User.class);
+    }
+}
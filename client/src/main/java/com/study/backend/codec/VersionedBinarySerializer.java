@@ -0,0 +1,95 @@
+package com.study.backend.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Redis 값용 버전 포함 바이너리 직렬화의 공통 틀입니다.
+ *
+ * 형식: [MAGIC 1바이트][스키마 버전 1바이트][필드...]
+ * 필드는 버전이 올라가도 뒤에 추가만 하고, 읽을 때는 아는 필드까지만 읽고 나머지는 무시합니다.
+ * 그래서 롤링 배포 중 이전 버전 인스턴스도 새 버전이 쓴 값을 읽을 수 있습니다.
+ *
+ * MAGIC 으로 시작하지 않는 값은 이전 JSON 형식으로 보고 legacy 직렬화기로 읽습니다 (마이그레이션 모드).
+ * writeLegacy=true 이면 JSON 으로 쓰므로, 모든 인스턴스가 바이너리를 읽을 수 있게 된 뒤에 바이너리로 전환하면 됩니다.
+ */
+public abstract class VersionedBinarySerializer<T> implements RedisSerializer<T> {
+
+    // JSON 은 '{', '"' 등 ASCII 로 시작하므로 ASCII 범위 밖의 값으로 구분
+    static final byte MAGIC = (byte) 0xB7;
+
+    private final RedisSerializer<T> legacy;
+    private final boolean writeLegacy;
+
+    protected VersionedBinarySerializer(RedisSerializer<T> legacy, boolean writeLegacy) {
+        if (writeLegacy && legacy == null) {
+            throw new IllegalArgumentException("legacy serializer is required to write legacy format");
+        }
+        this.legacy = legacy;
+        this.writeLegacy = writeLegacy;
+    }
+
+    // 현재 쓰는 스키마 버전
+    protected abstract byte version();
+
+    protected abstract void write(DataOutputStream out, T value) throws IOException;
+
+    protected abstract T read(DataInputStream in, byte version) throws IOException;
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (writeLegacy) {
+            return legacy.serialize(value);
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(MAGIC);
+            out.writeByte(version());
+            write(out, value);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not write binary value", e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            if (legacy == null) {
+                throw new SerializationException("Unknown value format (legacy read disabled)");
+            }
+            return legacy.deserialize(bytes);
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+            return read(in, in.readByte());
+        } catch (IOException e) {
+            throw new SerializationException("Could not read binary value", e);
+        }
+    }
+
+    protected static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    protected static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
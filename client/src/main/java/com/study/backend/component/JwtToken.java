@@ -1,5 +1,7 @@
 package com.study.backend.component;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -11,14 +13,21 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class JwtToken {
 
     private final String SECRET_KEY = "dGhpc19pc19hX3Zlcnlfc2VjdXJlX3Rlc3Rfc2VjcmV0X2tleQ=="; // Base64 encoded
 
+    // 서명 키와 파서는 한 번만 만들어 재사용 (둘 다 불변이라 스레드 안전)
+    private final Key signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+    private final JwtParser parser = Jwts.parserBuilder()
+            .setSigningKey(signingKey)
+            .build();
+
     private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        return signingKey;
     }
 
 
@@ -55,23 +64,24 @@ public class JwtToken {
                 .compact();
     }
 
-    // JWT 토큰 유효성 검사
-    public boolean validateToken(String token) {
+    // 토큰을 한 번 검증/파싱해서 claims 반환 (유효하지 않으면 empty)
+    // 검증 후 claims 가 필요한 곳은 validateToken + getUserEmail 대신 이 결과를 넘겨 쓰면 됨
+    public Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .parseClaimsJws(token);
-            return true;
+            return Optional.of(parser.parseClaimsJws(token).getBody());
         } catch (Exception e) {
-            return false;
+            return Optional.empty();
         }
     }
 
+    // JWT 토큰 유효성 검사
+    public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
+
     // 토큰에서 사용자 이메일(Subject) 추출
     public String extractEmail(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
@@ -79,10 +89,7 @@ public class JwtToken {
     // 토큰에서 사용자 이메일 추출
     public String getUserEmail(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
+            return parser.parseClaimsJws(token)
                     .getBody()
                     .get("uEmail", String.class);
         } catch (Exception e) {
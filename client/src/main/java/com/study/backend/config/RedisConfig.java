@@ -1,23 +1,66 @@
 package com.study.backend.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.backend.codec.RedisUserInfoBinarySerializer;
+import com.study.backend.codec.RedisUserInfoJsonSerializer;
+import com.study.backend.codec.UserBinarySerializer;
+import com.study.backend.codec.UserJsonSerializer;
+import com.study.backend.dto.RedisUserInfo;
 import com.study.backend.entity.User;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+/**
+ * Redis 값 직렬화 설정
+ *
+ * user.redis.codec=json   : 이전 JSON 형식으로 저장 (기본, 바이너리를 못 읽는 이전 버전과 함께 떠 있는 동안 사용)
+ * user.redis.codec=binary : 버전 포함 바이너리로 저장 (모든 인스턴스가 이 버전 이상으로 배포된 뒤 전환)
+ * user.redis.codec.read-legacy=true 이면 형식에 관계없이 JSON 으로 저장된 기존 값도 읽습니다.
+ */
 @Configuration
 public class RedisConfig {
+
+    @Value("${user.redis.codec:json}")
+    private String codec;
+
+    @Value("${user.redis.codec.read-legacy:true}")
+    private boolean readLegacy;
+
     @Bean
     public RedisTemplate<String, User> userRedisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, User> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(new UserBinarySerializer(legacy(new UserJsonSerializer()), writeLegacy()));
 
         return template;
     }
-}
\ No newline at end of file
+
+    // refresh:<token> 세션 값 (RedisUserInfo)
+    @Bean
+    public RedisTemplate<String, RedisUserInfo> refreshSessionRedisTemplate(RedisConnectionFactory connectionFactory,
+                                                                            ObjectMapper objectMapper) {
+        RedisTemplate<String, RedisUserInfo> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new RedisUserInfoBinarySerializer(
+                legacy(new RedisUserInfoJsonSerializer(objectMapper)), writeLegacy()));
+
+        return template;
+    }
+
+    private boolean writeLegacy() {
+        return "json".equalsIgnoreCase(codec);
+    }
+
+    private <T> RedisSerializer<T> legacy(RedisSerializer<T> serializer) {
+        return readLegacy || writeLegacy() ? serializer : null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.study.backend.config;
+
+import com.study.backend.cache.UserNearCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 사용자 L1 캐시 무효화 pub/sub 구독 설정
+ * 다른 인스턴스에서 사용자 정보가 수정/삭제되면 이 인스턴스의 L1 캐시도 비웁니다.
+ */
+@Configuration
+public class UserCacheRedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer userCacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                       UserNearCache userNearCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> userNearCache.invalidateLocal(
+                        Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(UserNearCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
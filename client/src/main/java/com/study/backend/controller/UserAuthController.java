@@ -11,6 +11,7 @@ import com.study.backend.service.AuthService;
 import com.study.backend.service.UserCacheService;
 import com.study.backend.component.JwtToken;
 import com.study.backend.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -134,11 +135,13 @@ public class UserAuthController {
         token = token.substring(7);
         
         try {
-            if (!jwtToken.validateToken(token)) {
+            // 검증과 이메일 추출을 한 번의 파싱으로 처리
+            Optional<Claims> claims = jwtToken.parseClaims(token);
+            if (claims.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
             }
             
-            String email = jwtToken.getUserEmail(token);
+            String email = claims.get().get("uEmail", String.class);
             System.out.println("Extracted email from token: " + email);
             
             Optional<User> userOpt = userCacheService.findByuEmail(email);
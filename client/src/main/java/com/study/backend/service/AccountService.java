@@ -20,13 +20,16 @@ public class AccountService {
     private final UserRepository userRepository;
     private final JwtToken jwtToken;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final UserCacheService userCacheService;
 
     public AccountService(UserRepository userRepository,
                          JwtToken jwtToken,
-                         RefreshTokenRepository refreshTokenRepository) {
+                         RefreshTokenRepository refreshTokenRepository,
+                         UserCacheService userCacheService) {
         this.userRepository = userRepository;
         this.jwtToken = jwtToken;
         this.refreshTokenRepository = refreshTokenRepository;
+        this.userCacheService = userCacheService;
     }
 
     @Transactional
@@ -62,6 +65,7 @@ public class AccountService {
             log.info("계정 삭제 완료 - email: {}", uEmail);
             
             // 캐시 무효화
+            userCacheService.evictUser(user);
             refreshTokenRepository.deleteByuId(user.getuId());
             log.info("리프레시 토큰 삭제 완료 - userId: {}", user.getuId());
             
@@ -1,7 +1,5 @@
 package com.study.backend.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.backend.component.JwtToken;
 import com.study.backend.dto.LoginRequest;
 import com.study.backend.dto.RedisUserInfo;
@@ -14,6 +12,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -31,8 +30,7 @@ public class AuthService {
     private final JwtToken jwtToken;
     private final PasswordEncoder passwordEncoder;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, RedisUserInfo> refreshSessionRedisTemplate;
 
 
     /**
@@ -43,14 +41,12 @@ public class AuthService {
                        JwtToken jwtToken,
                        PasswordEncoder passwordEncoder,
                        RefreshTokenRepository refreshTokenRepository,
-                       RedisTemplate<String, String> redisTemplate,
-                       ObjectMapper objectMapper) {
+                       RedisTemplate<String, RedisUserInfo> refreshSessionRedisTemplate) {
         this.userRepository = userRepository;
         this.jwtToken = jwtToken;
         this.passwordEncoder = passwordEncoder;
         this.refreshTokenRepository = refreshTokenRepository;
-        this.redisTemplate = redisTemplate;
-        this.objectMapper = objectMapper;
+        this.refreshSessionRedisTemplate = refreshSessionRedisTemplate;
     }
 
 
@@ -120,14 +116,8 @@ public class AuthService {
         String accessToken = jwtToken.generateTokenWithClaims(user.getuEmail(), user.getuName(), user.getuRole());
         String refreshToken = jwtToken.generateRefreshToken(user.getuEmail());
 
-        try {
-            RedisUserInfo redisUserInfo = new RedisUserInfo(user.getuEmail(), user.getuName(), user.getuRole());
-            String redisValue = objectMapper.writeValueAsString(redisUserInfo);
-            redisTemplate.opsForValue().set("refresh:" + refreshToken, redisValue, java.time.Duration.ofDays(7));
-        } catch (JsonProcessingException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "서버 내부 오류가 발생했습니다."));
-        }
+        RedisUserInfo redisUserInfo = new RedisUserInfo(user.getuEmail(), user.getuName(), user.getuRole());
+        refreshSessionRedisTemplate.opsForValue().set("refresh:" + refreshToken, redisUserInfo, java.time.Duration.ofDays(7));
 
         RefreshToken tokenEntity = new RefreshToken();
         tokenEntity.setToken(refreshToken);
@@ -170,24 +160,24 @@ public class AuthService {
         }
 
         String redisKey = "refresh:" + refreshToken;
-        String redisValue = redisTemplate.opsForValue().get(redisKey);
+        RedisUserInfo userInfo;
+        try {
+            userInfo = refreshSessionRedisTemplate.opsForValue().get(redisKey);
+        } catch (SerializationException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "토큰 역직렬화에 실패했습니다."));
+        }
 
-        if (redisValue == null) {
+        if (userInfo == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "유효하지 않거나 만료된 리프레시 토큰입니다."));
         }
 
-        try {
-            RedisUserInfo userInfo = objectMapper.readValue(redisValue, RedisUserInfo.class);
-            String newAccessToken = jwtToken.generateTokenWithClaims(userInfo.getuEmail(), userInfo.getuName(), userInfo.getuRole());
+        String newAccessToken = jwtToken.generateTokenWithClaims(userInfo.getuEmail(), userInfo.getuName(), userInfo.getuRole());
 
-            System.out.println("🔄 새로운 AccessToken 발급 완료: " + newAccessToken);
+        System.out.println("🔄 새로운 AccessToken 발급 완료: " + newAccessToken);
 
-            return ResponseEntity.ok(Map.of("accessToken", newAccessToken));
-        } catch (JsonProcessingException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "토큰 역직렬화에 실패했습니다."));
-        }
+        return ResponseEntity.ok(Map.of("accessToken", newAccessToken));
     }
 
 
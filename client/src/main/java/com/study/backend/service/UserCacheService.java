@@ -1,47 +1,108 @@
 package com.study.backend.service;
 
+import com.study.backend.cache.UserNearCache;
 import com.study.backend.entity.User;
 import com.study.backend.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import javax.swing.text.html.Option;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 @Service
 public class UserCacheService {
+    private static final String ID_KEY_PREFIX = "user:";
+    private static final String EMAIL_KEY_PREFIX = "user:email:";
+    // 존재하지 않는 이메일을 표시하는 네거티브 캐시 키 (값 타입이 달라 String 템플릿으로 저장)
+    private static final String EMAIL_MISS_KEY_PREFIX = "user:email-miss:";
+
     private final UserRepository userRepository;
     private final RedisTemplate<String, User> redisTemplate;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final UserNearCache nearCache;
+
+    private final long ttlSeconds;
+    private final long ttlJitterSeconds;
+    private final long negativeTtlSeconds;
+
+    // 같은 키에 대한 동시 캐시 미스를 하나의 DB 조회로 합치기 위한 진행 중 로드 목록
+    private final ConcurrentMap<String, CompletableFuture<Optional<User>>> inflightLoads = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter negativeHits;
+    private final Timer loadTimer;
 
     public UserCacheService(UserRepository userRepository,
-                            RedisTemplate<String, User> redisTemplate) {
+                            RedisTemplate<String, User> redisTemplate,
+                            RedisTemplate<String, String> stringRedisTemplate,
+                            UserNearCache nearCache,
+                            MeterRegistry meterRegistry,
+                            @Value("${user.cache.ttl-seconds:1800}") long ttlSeconds,
+                            @Value("${user.cache.ttl-jitter-seconds:300}") long ttlJitterSeconds,
+                            @Value("${user.cache.negative-ttl-seconds:60}") long negativeTtlSeconds) {
         this.userRepository = userRepository;
         this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.nearCache = nearCache;
+        this.ttlSeconds = ttlSeconds;
+        this.ttlJitterSeconds = ttlJitterSeconds;
+        this.negativeTtlSeconds = negativeTtlSeconds;
+
+        this.hits = Counter.builder("user.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("user.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.negativeHits = Counter.builder("user.cache.requests").tag("result", "negative-hit").register(meterRegistry);
+        this.loadTimer = Timer.builder("user.cache.load")
+                .description("캐시 미스 시 DB 조회에 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("user.cache.hit.ratio", this, UserCacheService::hitRatio).register(meterRegistry);
     }
 
     /**
-     * 사용자 정보를 캐시에서 조회하거나, 없으면 DB에서 조회 후 캐시에 저장함
+     * 사용자 정보를 L1 -> Redis -> DB 순으로 조회하고, 찾은 값을 상위 캐시에 채움
      * @param uId 사용자 ID
      * @return User 객체
      */
     public User getUserById(Long uId) {
-        // Redis 캐시에서 사용자 정보 조회
-        User cached = redisTemplate.opsForValue().get("user:" + uId);
-        if (cached != null) {
-            // 탈퇴 처리된 사용자일 경우 예외 발생
-            if (cached.getDeletedAt() != null) {
-                throw new RuntimeException("User is marked for deletion");
-            }
-            return cached;
+        User user = nearCache.getById(uId);
+        if (user == null) {
+            user = loadById(uId);
+            nearCache.put(user);
         }
 
-        // 캐시에 없으면 DB에서 사용자 정보 조회
-        User user = userRepository.findById(uId).orElseThrow();
+        // 탈퇴 처리된 사용자일 경우 예외 발생
         if (user.getDeletedAt() != null) {
-            // 탈퇴 처리된 사용자일 경우 예외 발생
             throw new RuntimeException("User is marked for deletion");
         }
-        // 조회된 사용자 정보를 캐시에 저장하지 않음 (필요시 추가 가능)
+        return user;
+    }
+
+    private User loadById(Long uId) {
+        String key = ID_KEY_PREFIX + uId;
+        // Redis 캐시에서 사용자 정보 조회
+        User user = redisTemplate.opsForValue().get(key);
+        if (user != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            // 캐시에 없으면 DB에서 조회하고, 조회된 사용자 정보를 캐시에 저장
+            user = loadOnce(key, () -> {
+                Optional<User> loaded = userRepository.findById(uId);
+                loaded.ifPresent(this::cacheUser);
+                return loaded;
+            }).orElseThrow();
+        }
         return user;
     }
 
@@ -54,15 +115,21 @@ public class UserCacheService {
     public User updateUser(Long uId, User updatedUser) {
         // DB에서 사용자 정보 조회
         User user = userRepository.findById(uId).orElseThrow();
+        String previousEmail = user.getuEmail();
         // 사용자 이름과 이메일을 변경
         user.setuName(updatedUser.getuName());
         user.setuEmail(updatedUser.getuEmail());
         user.setDeletedAt(updatedUser.getDeletedAt());  // deletedAt 필드 업데이트
         // 변경된 사용자 정보를 DB에 저장
         userRepository.save(user);
-        // 캐시에도 사용자 정보 갱신
-        redisTemplate.opsForValue().set("user:" + uId, user);
-        redisTemplate.opsForValue().set("user:email:" + user.getuEmail(), user);  // 이메일로 조회하는 캐시도 갱신
+        // 이메일이 바뀌었으면 이전 이메일 캐시와 새 이메일의 네거티브 캐시는 제거
+        if (previousEmail != null && !previousEmail.equals(user.getuEmail())) {
+            redisTemplate.delete(EMAIL_KEY_PREFIX + previousEmail);
+            evictMissingEmail(user.getuEmail());
+        }
+        // 캐시에도 사용자 정보 갱신 (ID, 이메일 두 키 모두) 후 모든 인스턴스의 L1 무효화
+        cacheUser(user);
+        nearCache.invalidate(uId);
         return user;
     }
 
@@ -71,28 +138,121 @@ public class UserCacheService {
      * @param uId 사용자 ID
      */
     public void deleteUser(Long uId) {
+        Optional<User> user = userRepository.findById(uId);
         userRepository.deleteById(uId);
-        redisTemplate.delete("user:" + uId); // 사용자 캐시 삭제
+        redisTemplate.delete(ID_KEY_PREFIX + uId); // 사용자 캐시 삭제
+        user.ifPresent(u -> redisTemplate.delete(EMAIL_KEY_PREFIX + u.getuEmail()));
         redisTemplate.delete("user:token:" + uId); // ✅ 로그인 토큰 삭제
+        nearCache.invalidate(uId);
     }
 
-
+    /**
+     * 이메일로 사용자 정보를 조회함. 존재하지 않는 이메일도 짧은 TTL로 캐시해 반복 조회가 DB로 가지 않게 함
+     * @param uEmail 사용자 이메일
+     * @return 사용자가 있으면 Optional<User>, 없으면 Optional.empty()
+     */
     public Optional<User> findByuEmail(String uEmail) {
+        User near = nearCache.getByEmail(uEmail);
+        if (near != null) {
+            return Optional.of(near);
+        }
+        Optional<User> user = loadByEmail(uEmail);
+        user.ifPresent(nearCache::put);
+        return user;
+    }
+
+    private Optional<User> loadByEmail(String uEmail) {
+        String key = EMAIL_KEY_PREFIX + uEmail;
         // Redis 캐시에서 사용자 정보 조회
-        User cached = redisTemplate.opsForValue().get("user:email:" + uEmail);
+        User cached = redisTemplate.opsForValue().get(key);
         if (cached != null) {
-            System.out.println("캐시에서 찾은 사용자 deletedAt: " + cached.getDeletedAt());
+            hits.increment();
             return Optional.of(cached);
         }
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(EMAIL_MISS_KEY_PREFIX + uEmail))) {
+            negativeHits.increment();
+            return Optional.empty();
+        }
 
-        // 캐시에 없으면 DB에서 사용자 정보 조회
-        Optional<User> user = userRepository.findByuEmail(uEmail);
-        if (user.isPresent()) {
-            User foundUser = user.get();
-            System.out.println("DB에서 찾은 사용자 deletedAt: " + foundUser.getDeletedAt());
-            // 조회된 사용자 정보를 캐시에 저장
-            redisTemplate.opsForValue().set("user:email:" + uEmail, foundUser);
+        misses.increment();
+        // 캐시에 없으면 DB에서 사용자 정보 조회 후 결과(없음 포함)를 캐시에 저장
+        return loadOnce(key, () -> {
+            Optional<User> loaded = userRepository.findByuEmail(uEmail);
+            if (loaded.isPresent()) {
+                cacheUser(loaded.get());
+            } else {
+                stringRedisTemplate.opsForValue()
+                        .set(EMAIL_MISS_KEY_PREFIX + uEmail, "1", Duration.ofSeconds(negativeTtlSeconds));
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * DB를 직접 변경한 경우(탈퇴 등) 해당 사용자의 ID, 이메일 캐시를 제거함
+     * @param user 변경된 사용자
+     */
+    public void evictUser(User user) {
+        redisTemplate.delete(ID_KEY_PREFIX + user.getuId());
+        redisTemplate.delete(EMAIL_KEY_PREFIX + user.getuEmail());
+        nearCache.invalidate(user.getuId());
+    }
+
+    /**
+     * 새로 가입한 사용자의 이메일에 남아 있는 네거티브 캐시를 제거함
+     * @param uEmail 가입한 사용자 이메일
+     */
+    public void evictMissingEmail(String uEmail) {
+        stringRedisTemplate.delete(EMAIL_MISS_KEY_PREFIX + uEmail);
+    }
+
+    /**
+     * ID 키와 이메일 키에 같은 사용자 정보를 저장함. 만료 시점이 한꺼번에 몰리지 않도록 TTL에 지터를 더함
+     */
+    private void cacheUser(User user) {
+        redisTemplate.opsForValue().set(ID_KEY_PREFIX + user.getuId(), user, jitteredTtl());
+        if (user.getuEmail() != null) {
+            redisTemplate.opsForValue().set(EMAIL_KEY_PREFIX + user.getuEmail(), user, jitteredTtl());
         }
-        return user;
+    }
+
+    private Duration jitteredTtl() {
+        long jitter = ttlJitterSeconds > 0 ? ThreadLocalRandom.current().nextLong(ttlJitterSeconds + 1) : 0;
+        return Duration.ofSeconds(ttlSeconds + jitter);
+    }
+
+    /**
+     * 같은 키에 대한 로드가 이미 진행 중이면 그 결과를 기다리고, 아니면 직접 로드함 (single-flight)
+     */
+    private Optional<User> loadOnce(String key, Supplier<Optional<User>> loader) {
+        CompletableFuture<Optional<User>> mine = new CompletableFuture<>();
+        CompletableFuture<Optional<User>> inflight = inflightLoads.putIfAbsent(key, mine);
+        if (inflight != null) {
+            try {
+                return inflight.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            Optional<User> loaded = loadTimer.record(loader);
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflightLoads.remove(key, mine);
+        }
+    }
+
+    private double hitRatio() {
+        double hit = hits.count() + negativeHits.count();
+        double total = hit + misses.count();
+        return total == 0 ? 0 : hit / total;
     }
 }
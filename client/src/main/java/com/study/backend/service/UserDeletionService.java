@@ -21,13 +21,16 @@ public class UserDeletionService {
     private final UserRepository userRepository;
     private final JwtToken jwtToken;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final UserCacheService userCacheService;
 
     public UserDeletionService(UserRepository userRepository,
                              JwtToken jwtToken,
-                             RefreshTokenRepository refreshTokenRepository) {
+                             RefreshTokenRepository refreshTokenRepository,
+                             UserCacheService userCacheService) {
         this.userRepository = userRepository;
         this.jwtToken = jwtToken;
         this.refreshTokenRepository = refreshTokenRepository;
+        this.userCacheService = userCacheService;
     }
 
     @Transactional
@@ -67,12 +70,14 @@ public class UserDeletionService {
                 log.info("소프트 삭제 완료 - email: {}, deletedAt: {}", uEmail, user.getDeletedAt());
                 
                 // 캐시 무효화
+                userCacheService.evictUser(user);
                 refreshTokenRepository.deleteByuId(user.getuId());
                 log.info("리프레시 토큰 삭제 완료 - userId: {}", user.getuId());
                 
                 return ResponseEntity.ok(Map.of("message", "계정이 삭제되었습니다. 로그아웃됩니다."));
             } else if ("HARD".equalsIgnoreCase(type)) {
                 userRepository.delete(user);
+                userCacheService.evictUser(user);
                 log.info("하드 삭제 완료 - email: {}", uEmail);
                 return ResponseEntity.ok(Map.of("message", "계정이 완전히 삭제되었습니다."));
             } else {
@@ -20,13 +20,16 @@ public class UserRegistrationService {
     private final UserRepository userRepository;
     private final JwtToken jwtToken;
     private final PasswordEncoder passwordEncoder;
+    private final UserCacheService userCacheService;
 
     public UserRegistrationService(UserRepository userRepository,
                                  JwtToken jwtToken,
-                                 PasswordEncoder passwordEncoder) {
+                                 PasswordEncoder passwordEncoder,
+                                 UserCacheService userCacheService) {
         this.userRepository = userRepository;
         this.jwtToken = jwtToken;
         this.passwordEncoder = passwordEncoder;
+        this.userCacheService = userCacheService;
     }
 
     @Transactional
@@ -48,6 +51,8 @@ public class UserRegistrationService {
             // 사용자 저장
             User savedUser = userRepository.save(user);
             log.info("회원가입 완료 - email: {}", savedUser.getuEmail());
+            // 가입 전 조회로 남은 '존재하지 않는 이메일' 캐시 제거
+            userCacheService.evictMissingEmail(savedUser.getuEmail());
 
             // JWT 토큰 생성
             String token = jwtToken.generateTokenWithClaims(savedUser.getuEmail(), savedUser.getuName(), savedUser.getuRole());
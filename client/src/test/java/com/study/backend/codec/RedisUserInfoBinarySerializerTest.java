@@ -0,0 +1,64 @@
+package com.study.backend.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.backend.dto.RedisUserInfo;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RedisUserInfoBinarySerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RedisUserInfoJsonSerializer json = new RedisUserInfoJsonSerializer(objectMapper);
+
+    @Test
+    void roundTrips() {
+        RedisUserInfoBinarySerializer serializer = new RedisUserInfoBinarySerializer(json, false);
+        RedisUserInfo info = new RedisUserInfo("hong@example.com", "홍길동", "USER");
+
+        byte[] bytes = serializer.serialize(info);
+
+        assertEquals(VersionedBinarySerializer.MAGIC, bytes[0]);
+        assertSameInfo(info, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void roundTripsNullFields() {
+        RedisUserInfoBinarySerializer serializer = new RedisUserInfoBinarySerializer(null, false);
+
+        RedisUserInfo read = serializer.deserialize(serializer.serialize(new RedisUserInfo("hong@example.com")));
+
+        assertEquals("hong@example.com", read.getuEmail());
+        assertNull(read.getuName());
+        assertNull(read.getuRole());
+    }
+
+    @Test
+    void readsLegacyJsonStringWrittenByOlderInstances() throws Exception {
+        RedisUserInfoBinarySerializer serializer = new RedisUserInfoBinarySerializer(json, false);
+        RedisUserInfo info = new RedisUserInfo("hong@example.com", "홍길동", "USER");
+        // 이전 AuthService 는 ObjectMapper 로 만든 JSON 문자열을 String 템플릿으로 저장
+        byte[] legacy = objectMapper.writeValueAsString(info).getBytes(StandardCharsets.UTF_8);
+
+        assertSameInfo(info, serializer.deserialize(legacy));
+    }
+
+    @Test
+    void writesJsonStringReadableByOlderInstancesInJsonMode() throws Exception {
+        RedisUserInfoBinarySerializer serializer = new RedisUserInfoBinarySerializer(json, true);
+        RedisUserInfo info = new RedisUserInfo("hong@example.com", "홍길동", "USER");
+
+        String stored = new String(serializer.serialize(info), StandardCharsets.UTF_8);
+
+        assertEquals(objectMapper.writeValueAsString(info), stored);
+    }
+
+    private static void assertSameInfo(RedisUserInfo expected, RedisUserInfo actual) {
+        assertEquals(expected.getuEmail(), actual.getuEmail());
+        assertEquals(expected.getuName(), actual.getuName());
+        assertEquals(expected.getuRole(), actual.getuRole());
+    }
+}
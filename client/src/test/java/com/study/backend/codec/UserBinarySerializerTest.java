@@ -0,0 +1,108 @@
+package com.study.backend.codec;
+
+import com.study.backend.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UserBinarySerializerTest {
+
+    private final UserJsonSerializer json = new UserJsonSerializer();
+
+    @Test
+    void roundTripsAllFields() {
+        UserBinarySerializer serializer = new UserBinarySerializer(json, false);
+        User user = user();
+        user.setDeletedAt(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_000_000));
+
+        byte[] bytes = serializer.serialize(user);
+
+        assertEquals(VersionedBinarySerializer.MAGIC, bytes[0]);
+        assertSameUser(user, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void roundTripsNullFields() {
+        UserBinarySerializer serializer = new UserBinarySerializer(null, false);
+        User user = new User();
+
+        User read = serializer.deserialize(serializer.serialize(user));
+
+        assertNull(read.getuId());
+        assertNull(read.getuEmail());
+        assertNull(read.getDeletedAt());
+        assertNull(read.getEmailVerified());
+    }
+
+    @Test
+    void readsLegacyJsonWrittenByOlderInstances() {
+        UserBinarySerializer serializer = new UserBinarySerializer(json, false);
+        User user = user();
+
+        assertSameUser(user, serializer.deserialize(json.serialize(user)));
+    }
+
+    @Test
+    void writesLegacyJsonInJsonMode() {
+        UserBinarySerializer serializer = new UserBinarySerializer(json, true);
+        User user = user();
+
+        byte[] bytes = serializer.serialize(user);
+
+        // 이전 버전(GenericJackson2JsonRedisSerializer 만 아는 인스턴스)이 그대로 읽을 수 있어야 함
+        assertArrayEquals(json.serialize(user), bytes);
+        assertSameUser(user, json.deserialize(bytes));
+    }
+
+    @Test
+    void rejectsLegacyJsonWhenLegacyReadIsDisabled() {
+        UserBinarySerializer serializer = new UserBinarySerializer(null, false);
+
+        assertThrows(SerializationException.class, () -> serializer.deserialize(json.serialize(user())));
+    }
+
+    @Test
+    void ignoresFieldsAppendedByNewerVersions() throws IOException {
+        UserBinarySerializer serializer = new UserBinarySerializer(null, false);
+        User user = user();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(serializer.serialize(user));
+        out.writeUTF("field added in v2");
+        byte[] v2 = bytes.toByteArray();
+        v2[1] = 2;
+
+        assertSameUser(user, serializer.deserialize(v2));
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setuId(42L);
+        user.setuName("홍길동");
+        user.setuPassword("$2a$10$abcdefghijklmnopqrstuv");
+        user.setuEmail("hong@example.com");
+        user.setuRole("USER");
+        user.setEmailVerified(true);
+        return user;
+    }
+
+    private static void assertSameUser(User expected, User actual) {
+        assertEquals(expected.getuId(), actual.getuId());
+        assertEquals(expected.getuName(), actual.getuName());
+        assertEquals(expected.getuPassword(), actual.getuPassword());
+        assertEquals(expected.getuEmail(), actual.getuEmail());
+        assertEquals(expected.getuRole(), actual.getuRole());
+        assertEquals(expected.getDeletedAt(), actual.getDeletedAt());
+        assertEquals(expected.getEmailVerified(), actual.getEmailVerified());
+    }
+}
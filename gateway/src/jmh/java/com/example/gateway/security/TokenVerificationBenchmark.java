@@ -0,0 +1,84 @@
+package com.example.gateway.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게이트웨이 토큰 검증 처리량: 매번 서명 검증 vs VerifiedTokenCache 적중
+ *
+ * - uncached: JwtVerifier.PARSER.parseClaimsJws (HMAC 검증 + JSON 파싱)
+ * - cached: JwtVerifier.verify, 활성 사용자 수(activeTokens)만큼의 토큰이 이미 캐시된 상태
+ *
+ * 실행: ./gradlew :gateway:jmh -PjmhIncludes=TokenVerificationBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class TokenVerificationBenchmark {
+
+    private static final Key KEY = Keys.hmacShaKeyFor(
+            Decoders.BASE64.decode("dGhpc19pc19hX3Zlcnlfc2VjdXJlX3Rlc3Rfc2VjcmV0X2tleQ=="));
+
+    @Param({"1000", "50000"})
+    private int activeTokens;
+
+    private String[] tokens;
+    private JwtVerifier verifier;
+
+    @Setup
+    public void setUp() {
+        Date exp = new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(5));
+        tokens = new String[activeTokens];
+        for (int i = 0; i < activeTokens; i++) {
+            tokens[i] = Jwts.builder()
+                    .claim("uEmail", "user" + i + "@example.com")
+                    .claim("uName", "user" + i)
+                    .claim("uRole", "USER")
+                    .setIssuedAt(new Date())
+                    .setExpiration(exp)
+                    .signWith(KEY, SignatureAlgorithm.HS256)
+                    .compact();
+        }
+        verifier = new JwtVerifier(new VerifiedTokenCache(100_000));
+        for (String token : tokens) {
+            verifier.verify(token);
+        }
+    }
+
+    @Benchmark
+    public Object uncached() {
+        return JwtVerifier.PARSER.parseClaimsJws(nextToken()).getBody();
+    }
+
+    @Benchmark
+    public VerifiedToken cached() {
+        return verifier.verify(nextToken());
+    }
+
+    private String nextToken() {
+        return tokens[ThreadLocalRandom.current().nextInt(tokens.length)];
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.gateway.loadbalancer;
+
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 채팅 서비스(lb://chat-websocket)에만 SockJS 세션 고정 로드밸런서를 적용합니다.
+ * 다른 서비스는 기본 라운드로빈을 그대로 씁니다.
+ */
+@Configuration
+@LoadBalancerClient(name = ChatLoadBalancerConfig.CHAT_SERVICE_ID, configuration = SockJsLoadBalancerConfiguration.class)
+public class ChatLoadBalancerConfig {
+
+    static final String CHAT_SERVICE_ID = "chat-websocket";
+}
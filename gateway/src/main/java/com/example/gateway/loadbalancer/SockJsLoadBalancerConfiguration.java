@@ -0,0 +1,21 @@
+package com.example.gateway.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * @LoadBalancerClient 의 서비스별 설정 (전역으로 적용되지 않도록 @Configuration 을 붙이지 않음)
+ */
+public class SockJsLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> sockJsSessionAffinityLoadBalancer(Environment environment,
+                                                                               LoadBalancerClientFactory factory) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new SockJsSessionAffinityLoadBalancer(factory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class));
+    }
+}
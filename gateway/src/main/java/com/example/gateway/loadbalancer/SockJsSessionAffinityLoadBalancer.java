@@ -0,0 +1,92 @@
+package com.example.gateway.loadbalancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SockJS 세션의 요청을 항상 같은 채팅 노드로 보내는 로드밸런서입니다.
+ *
+ * SockJS 폴백 전송(xhr-streaming, xhr_send, eventsource 등)은 한 세션에 여러 HTTP 요청을 보내고,
+ * 세션 상태는 처음 요청을 받은 노드에만 있으므로 라운드로빈으로 흩어지면 세션이 끊깁니다.
+ * 경로 /{prefix}/{server-id}/{session-id}/{transport} 의 session-id 로 노드를 고르고(rendezvous hashing),
+ * 노드가 추가/제거되어도 다른 노드에 있던 세션은 그대로 같은 노드로 갑니다.
+ * 세션 경로가 아닌 요청(/ws/info 등)은 라운드로빈으로 분산합니다.
+ */
+public class SockJsSessionAffinityLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final AtomicInteger position = new AtomicInteger(ThreadLocalRandom.current().nextInt(1000));
+
+    public SockJsSessionAffinityLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider) {
+        this.supplierProvider = supplierProvider;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        String sessionId = request != null && request.getContext() instanceof RequestDataContext context
+                ? sessionId(context.getClientRequest().getUrl().getPath())
+                : null;
+        return supplier.get(request).next().map(instances -> choose(instances, sessionId));
+    }
+
+    Response<ServiceInstance> choose(List<ServiceInstance> instances, String sessionId) {
+        if (instances.isEmpty()) {
+            return new EmptyResponse();
+        }
+        if (sessionId == null) {
+            int index = Math.floorMod(position.incrementAndGet(), instances.size());
+            return new DefaultResponse(instances.get(index));
+        }
+        ServiceInstance best = null;
+        long bestScore = Long.MIN_VALUE;
+        for (ServiceInstance instance : instances) {
+            long score = score(sessionId, instance);
+            if (best == null || score > bestScore) {
+                best = instance;
+                bestScore = score;
+            }
+        }
+        return new DefaultResponse(best);
+    }
+
+    /**
+     * SockJS 세션 경로에서 session-id 를 꺼냄 (세션 경로가 아니면 null)
+     * ex) /ws/123/abcdef/xhr_streaming -> abcdef
+     */
+    static String sessionId(String path) {
+        if (path == null) {
+            return null;
+        }
+        String[] segments = path.startsWith("/") ? path.substring(1).split("/") : path.split("/");
+        if (segments.length != 4 || segments[1].isEmpty() || segments[2].isEmpty() || segments[3].isEmpty()) {
+            return null;
+        }
+        return segments[2];
+    }
+
+    // 세션과 노드 조합마다 고르게 퍼진 점수 (가장 큰 노드를 선택)
+    private static long score(String sessionId, ServiceInstance instance) {
+        long hash = ((long) sessionId.hashCode() << 32) ^ (instance.getHost() + ":" + instance.getPort()).hashCode();
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.gateway.security;
+
+/**
+ * 경로별 인증 정책
+ */
+public enum AuthPolicy {
+    // 토큰 검사 없이 통과
+    PUBLIC,
+    // 유효한 토큰 필요
+    AUTHENTICATED,
+    // 유효한 토큰 + 지정된 역할(uRole) 필요
+    ROLE
+}
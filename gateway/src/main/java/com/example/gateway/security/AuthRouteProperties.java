@@ -0,0 +1,42 @@
+package com.example.gateway.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * gateway.auth.* 경로별 인증 정책 설정
+ *
+ * 예)
+ * gateway.auth.default-policy=authenticated
+ * gateway.auth.routes[0].path=/api/users/login
+ * gateway.auth.routes[0].policy=public
+ * gateway.auth.routes[1].path=/api/boards/admin/**
+ * gateway.auth.routes[1].policy=role
+ * gateway.auth.routes[1].roles=ADMIN
+ *
+ * path 는 '/' 로 나눈 세그먼트 단위로 비교하며 '*' 는 세그먼트 하나, '**' 는 나머지 전체(0개 이상)와 일치합니다.
+ * methods 를 비우면 모든 HTTP 메서드에 적용됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.auth")
+public class AuthRouteProperties {
+
+    // 어떤 규칙과도 일치하지 않는 경로의 정책
+    private AuthPolicy defaultPolicy = AuthPolicy.AUTHENTICATED;
+
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String path;
+        private AuthPolicy policy = AuthPolicy.AUTHENTICATED;
+        private List<String> methods = new ArrayList<>();
+        private List<String> roles = new ArrayList<>();
+    }
+}
@@ -1,36 +1,45 @@
 package com.example.gateway.security;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
-import java.security.Key;
-
 @Component
 @RequiredArgsConstructor
 public class JwtAuthFilter implements GlobalFilter, Ordered {
 
+    // 검증된 사용자 정보를 하위 서비스로 전달하는 헤더 (클라이언트가 보낸 값은 항상 제거)
+    public static final String USER_EMAIL_HEADER = "X-User-Email";
+    public static final String USER_ROLE_HEADER = "X-User-Role";
 
-    private String secretKey = "dGhpc19pc19hX3Zlcnlfc2VjdXJlX3Rlc3Rfc2VjcmV0X2tleQ==";
-
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
-    }
+    private final JwtVerifier jwtVerifier;
+    private final RoutePolicyMatcher routePolicyMatcher;
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        ServerHttpRequest original = exchange.getRequest();
+        RoutePolicyMatcher.Rule rule;
+        try {
+            rule = routePolicyMatcher.match(original.getMethod(), original.getPath().value());
+        } catch (IllegalArgumentException e) {
+            // 하위 서비스가 다르게 해석할 수 있는 경로('//', ';', '..', 잘못된 인코딩)는 정책 우회를 막기 위해 거부
+            exchange.getResponse().setStatusCode(HttpStatus.BAD_REQUEST);
+            return exchange.getResponse().setComplete();
+        }
+
+        // 공개 경로는 토큰을 파싱하지 않음 (위조된 사용자 헤더만 제거)
+        if (rule.policy() == AuthPolicy.PUBLIC) {
+            return chain.filter(withUserHeaders(exchange, null));
+        }
+
+        String authHeader = original.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
@@ -39,18 +48,40 @@ public class JwtAuthFilter implements GlobalFilter, Ordered {
 
         String token = authHeader.substring(7);
 
+        VerifiedToken verified;
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token); // 검증만 수행
-
-            return chain.filter(exchange);
-
+            verified = jwtVerifier.verify(token);
         } catch (Exception e) {
             exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
             return exchange.getResponse().setComplete();
         }
+
+        if (rule.policy() == AuthPolicy.ROLE
+                && (verified.role() == null || !rule.roles().contains(verified.role()))) {
+            exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN);
+            return exchange.getResponse().setComplete();
+        }
+
+        return chain.filter(withUserHeaders(exchange, verified));
+    }
+
+    private ServerWebExchange withUserHeaders(ServerWebExchange exchange, VerifiedToken verified) {
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    headers.remove(USER_EMAIL_HEADER);
+                    headers.remove(USER_ROLE_HEADER);
+                    if (verified == null) {
+                        return;
+                    }
+                    if (verified.email() != null) {
+                        headers.set(USER_EMAIL_HEADER, verified.email());
+                    }
+                    if (verified.role() != null) {
+                        headers.set(USER_ROLE_HEADER, verified.role());
+                    }
+                })
+                .build();
+        return exchange.mutate().request(request).build();
     }
 
 
@@ -0,0 +1,62 @@
+package com.example.gateway.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * 액세스 토큰의 서명을 검증하고 하위 서비스로 넘길 claims 를 꺼냅니다.
+ * 한 번 검증한 토큰은 VerifiedTokenCache 에서 exp 까지 재사용하므로 HMAC 검증을 다시 하지 않습니다.
+ */
+@Component
+public class JwtVerifier {
+
+    private static final String SECRET_KEY = "dGhpc19pc19hX3Zlcnlfc2VjdXJlX3Rlc3Rfc2VjcmV0X2tleQ==";
+
+    // 키와 파서는 한 번만 만들어 재사용 (client 의 JwtToken 과 같은 Base64 디코딩 키)
+    static final JwtParser PARSER = Jwts.parserBuilder()
+            .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY)))
+            .build();
+
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    public JwtVerifier(VerifiedTokenCache verifiedTokenCache) {
+        this(PARSER, verifiedTokenCache);
+    }
+
+    JwtVerifier(JwtParser parser, VerifiedTokenCache verifiedTokenCache) {
+        this.parser = parser;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    /**
+     * @throws JwtException 서명이 틀렸거나 만료되는 등 유효하지 않은 토큰인 경우
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        Date expiration = claims.getExpiration();
+        VerifiedToken verified = new VerifiedToken(
+                claims.get("uEmail", String.class),
+                claims.get("uRole", String.class),
+                expiration != null ? expiration.getTime() : 0L);
+        // exp 가 없는 토큰은 만료 시점을 알 수 없으므로 캐시하지 않음
+        if (expiration != null) {
+            verifiedTokenCache.put(token, verified);
+        }
+        return verified;
+    }
+}
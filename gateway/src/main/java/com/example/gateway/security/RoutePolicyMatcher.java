@@ -0,0 +1,175 @@
+package com.example.gateway.security;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * gateway.auth.routes 를 시작 시 경로 세그먼트 트라이로 컴파일해, 요청 경로의 인증 정책을 찾습니다.
+ *
+ * 조회 비용은 규칙 수가 아니라 경로 깊이에 비례합니다.
+ * 여러 규칙이 일치하면 더 구체적인 쪽(리터럴 > '*' > '**')이 우선하고, 같은 노드에서는 먼저 선언된 규칙이 우선합니다.
+ *
+ * 요청 경로는 하위 서비스(Tomcat)가 해석하는 것과 같은 형태로 퍼센트 디코딩한 뒤 비교합니다.
+ * 빈 세그먼트('//'), ';' 경로 파라미터, '.'/'..' 세그먼트, 디코딩 후 '/' 나 '\' 가 나오는 세그먼트처럼
+ * 게이트웨이와 하위 서비스가 다르게 해석할 수 있는 경로는 정책을 고르지 않고 거부합니다.
+ */
+@Component
+@EnableConfigurationProperties(AuthRouteProperties.class)
+public class RoutePolicyMatcher {
+
+    /**
+     * 요청에 적용할 정책
+     *
+     * @param policy  인증 정책
+     * @param methods 규칙을 적용할 HTTP 메서드 (비어 있으면 전체)
+     * @param roles    ROLE 정책일 때 허용되는 역할
+     */
+    public record Rule(AuthPolicy policy, Set<HttpMethod> methods, Set<String> roles) {
+
+        boolean appliesTo(HttpMethod method) {
+            return methods.isEmpty() || methods.contains(method);
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node singleWildcard;
+        // 이 노드에서 끝나는 규칙
+        private final List<Rule> exact = new ArrayList<>();
+        // 이 노드 아래 전체('**')에 적용되는 규칙
+        private final List<Rule> rest = new ArrayList<>();
+    }
+
+    private final Node root = new Node();
+    private final Rule defaultRule;
+
+    public RoutePolicyMatcher(AuthRouteProperties properties) {
+        this.defaultRule = new Rule(properties.getDefaultPolicy(), Set.of(), Set.of());
+        for (AuthRouteProperties.Route route : properties.getRoutes()) {
+            if (route.getPath() == null || route.getPath().isBlank()) {
+                throw new IllegalArgumentException("gateway.auth.routes[].path must not be empty");
+            }
+            if (route.getPolicy() == AuthPolicy.ROLE && route.getRoles().isEmpty()) {
+                throw new IllegalArgumentException("gateway.auth route " + route.getPath() + " requires roles");
+            }
+            add(route.getPath(), new Rule(
+                    route.getPolicy(),
+                    route.getMethods().stream()
+                            .map(m -> HttpMethod.valueOf(m.trim().toUpperCase(Locale.ROOT)))
+                            .collect(Collectors.toUnmodifiableSet()),
+                    Set.copyOf(route.getRoles())));
+        }
+    }
+
+    /**
+     * @param method  요청 메서드
+     * @param rawPath 디코딩되지 않은 요청 경로
+     * @return 적용할 규칙 (일치하는 규칙이 없으면 default-policy)
+     * @throws IllegalArgumentException 정규화되지 않은 경로인 경우
+     */
+    public Rule match(HttpMethod method, String rawPath) {
+        Rule rule = match(root, canonicalSegments(rawPath), 0, method);
+        return rule != null ? rule : defaultRule;
+    }
+
+    private void add(String pattern, Rule rule) {
+        String[] segments = segments(pattern);
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if ("**".equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' is only allowed at the end: " + pattern);
+                }
+                node.rest.add(rule);
+                return;
+            }
+            if ("*".equals(segment)) {
+                if (node.singleWildcard == null) {
+                    node.singleWildcard = new Node();
+                }
+                node = node.singleWildcard;
+            } else {
+                node = node.children.computeIfAbsent(segment, s -> new Node());
+            }
+        }
+        node.exact.add(rule);
+    }
+
+    private Rule match(Node node, String[] segments, int index, HttpMethod method) {
+        if (index == segments.length) {
+            Rule rule = first(node.exact, method);
+            if (rule != null) {
+                return rule;
+            }
+        } else {
+            Node literal = node.children.get(segments[index]);
+            if (literal != null) {
+                Rule rule = match(literal, segments, index + 1, method);
+                if (rule != null) {
+                    return rule;
+                }
+            }
+            if (node.singleWildcard != null) {
+                Rule rule = match(node.singleWildcard, segments, index + 1, method);
+                if (rule != null) {
+                    return rule;
+                }
+            }
+        }
+        return first(node.rest, method);
+    }
+
+    private static Rule first(List<Rule> rules, HttpMethod method) {
+        for (Rule rule : rules) {
+            if (rule.appliesTo(method)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 요청 경로를 디코딩된 세그먼트로 나눔. 마지막 '/' 하나는 허용하고, 그 외 모호한 형태는 거부함
+     */
+    static String[] canonicalSegments(String rawPath) {
+        if (rawPath == null || !rawPath.startsWith("/")) {
+            throw new IllegalArgumentException("Path must start with '/': " + rawPath);
+        }
+        String[] raw = segments(rawPath);
+        String[] decoded = new String[raw.length];
+        for (int i = 0; i < raw.length; i++) {
+            String segment = raw[i];
+            if (segment.isEmpty() || segment.indexOf(';') >= 0) {
+                throw new IllegalArgumentException("Non-canonical path: " + rawPath);
+            }
+            // 잘못된 퍼센트 인코딩이면 uriDecode 가 IllegalArgumentException 을 던짐
+            String value = StringUtils.uriDecode(segment, StandardCharsets.UTF_8);
+            if (value.isEmpty() || ".".equals(value) || "..".equals(value)
+                    || value.indexOf('/') >= 0 || value.indexOf('\\') >= 0 || value.indexOf(';') >= 0) {
+                throw new IllegalArgumentException("Non-canonical path: " + rawPath);
+            }
+            decoded[i] = value;
+        }
+        return decoded;
+    }
+
+    private static String[] segments(String path) {
+        String trimmed = path.startsWith("/") ? path.substring(1) : path;
+        if (trimmed.endsWith("/")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("/", -1);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.gateway.security;
+
+/**
+ * 게이트웨이에서 검증한 토큰의 claims 중 하위 서비스로 전달할 값
+ *
+ * @param email           uEmail claim
+ * @param role            uRole claim
+ * @param expiresAtMillis exp claim (epoch 밀리초)
+ */
+public record VerifiedToken(String email, String role, long expiresAtMillis) {
+}
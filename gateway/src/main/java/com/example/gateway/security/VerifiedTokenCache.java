@@ -0,0 +1,86 @@
+package com.example.gateway.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 토큰의 claims 캐시입니다.
+ *
+ * 키는 토큰 원문 대신 SHA-256 다이제스트를 쓰고, 각 항목은 토큰의 exp 시각에 만료됩니다.
+ * 같은 토큰으로 연달아 들어오는 요청은 HMAC 검증 없이 캐시된 claims 를 사용합니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> cache;
+    private final Clock clock;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${gateway.jwt.cache.max-size:100000}") long maxSize) {
+        this(maxSize, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(long maxSize, Clock clock) {
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return remainingNanos(value, clock);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return remainingNanos(value, clock);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public VerifiedToken get(String token) {
+        VerifiedToken verified = cache.getIfPresent(digest(token));
+        // Caffeine 만료는 정리 시점에 따라 약간 늦을 수 있으므로 exp 를 한 번 더 확인
+        if (verified != null && verified.expiresAtMillis() <= clock.millis()) {
+            return null;
+        }
+        return verified;
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        if (verified.expiresAtMillis() > clock.millis()) {
+            cache.put(digest(token), verified);
+        }
+    }
+
+    private static long remainingNanos(VerifiedToken value, Clock clock) {
+        long remainingMillis = value.expiresAtMillis() - clock.millis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.gateway.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SockJsSessionAffinityLoadBalancerTest {
+
+    private final SockJsSessionAffinityLoadBalancer loadBalancer = new SockJsSessionAffinityLoadBalancer(null);
+
+    private final List<ServiceInstance> nodes = List.of(node("a", 8081), node("b", 8082), node("c", 8083));
+
+    @Test
+    void extractsSessionIdFromSockJsTransportPaths() {
+        assertEquals("abcdef", SockJsSessionAffinityLoadBalancer.sessionId("/ws/123/abcdef/xhr_streaming"));
+        assertEquals("abcdef", SockJsSessionAffinityLoadBalancer.sessionId("/ws/123/abcdef/xhr_send"));
+        assertEquals("abcdef", SockJsSessionAffinityLoadBalancer.sessionId("/ws/123/abcdef/websocket"));
+        assertNull(SockJsSessionAffinityLoadBalancer.sessionId("/ws/info"));
+        assertNull(SockJsSessionAffinityLoadBalancer.sessionId("/ws"));
+        assertNull(SockJsSessionAffinityLoadBalancer.sessionId("/ws/123//xhr"));
+    }
+
+    @Test
+    void sendsEveryRequestOfASessionToTheSameNode() {
+        ServiceInstance first = choose(nodes, "session-1");
+        for (int i = 0; i < 20; i++) {
+            assertEquals(first, choose(nodes, "session-1"));
+        }
+    }
+
+    @Test
+    void spreadsSessionsAcrossNodes() {
+        Set<ServiceInstance> used = new HashSet<>();
+        IntStream.range(0, 100).forEach(i -> used.add(choose(nodes, "session-" + i)));
+        assertEquals(nodes.size(), used.size());
+    }
+
+    @Test
+    void removingANodeOnlyMovesItsOwnSessions() {
+        List<ServiceInstance> remaining = nodes.subList(0, 2);
+        for (int i = 0; i < 100; i++) {
+            String session = "session-" + i;
+            ServiceInstance before = choose(nodes, session);
+            if (remaining.contains(before)) {
+                assertEquals(before, choose(remaining, session));
+            }
+        }
+    }
+
+    @Test
+    void roundRobinsRequestsWithoutASession() {
+        Set<ServiceInstance> used = new HashSet<>();
+        IntStream.range(0, nodes.size()).forEach(i -> used.add(choose(nodes, null)));
+        assertEquals(nodes.size(), used.size());
+    }
+
+    @Test
+    void returnsNoInstanceWhenNoNodesAreUp() {
+        assertFalse(loadBalancer.choose(List.of(), "session-1").hasServer());
+        assertTrue(loadBalancer.choose(nodes, "session-1").hasServer());
+    }
+
+    private ServiceInstance choose(List<ServiceInstance> instances, String sessionId) {
+        return loadBalancer.choose(instances, sessionId).getServer();
+    }
+
+    private static ServiceInstance node(String host, int port) {
+        return new DefaultServiceInstance(host + "-" + port, ChatLoadBalancerConfig.CHAT_SERVICE_ID, host, port, false);
+    }
+}
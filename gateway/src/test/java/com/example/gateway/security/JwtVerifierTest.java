@@ -0,0 +1,90 @@
+package com.example.gateway.security;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class JwtVerifierTest {
+
+    // client 의 JwtToken 과 같은 키
+    private static final Key KEY = Keys.hmacShaKeyFor(
+            Decoders.BASE64.decode("dGhpc19pc19hX3Zlcnlfc2VjdXJlX3Rlc3Rfc2VjcmV0X2tleQ=="));
+
+    private JwtParser parser;
+    private MutableClock clock;
+    private JwtVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        parser = spy(JwtVerifier.PARSER);
+        clock = new MutableClock(Instant.now());
+        verifier = new JwtVerifier(parser, new VerifiedTokenCache(100, clock));
+    }
+
+    @Test
+    void cachedTokenSkipsSignatureVerification() {
+        String token = token(Instant.now().plus(Duration.ofHours(1)));
+
+        VerifiedToken first = verifier.verify(token);
+        VerifiedToken second = verifier.verify(token);
+
+        assertEquals("a@example.com", first.email());
+        assertEquals("ADMIN", first.role());
+        assertEquals(first, second);
+        verify(parser, times(1)).parseClaimsJws(token);
+    }
+
+    @Test
+    void verifiesAgainAfterExp() {
+        Instant exp = Instant.now().plus(Duration.ofHours(1));
+        String token = token(exp);
+        verifier.verify(token);
+
+        // 캐시 시계만 exp 이후로 옮기면 캐시를 건너뛰고 다시 검증
+        clock.advance(Duration.between(clock.instant(), exp).plusSeconds(1));
+        verifier.verify(token);
+
+        verify(parser, times(2)).parseClaimsJws(token);
+    }
+
+    @Test
+    void rejectsTamperedToken() {
+        String token = token(Instant.now().plus(Duration.ofHours(1)));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> verifier.verify(tampered));
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        String token = token(Instant.now().minus(Duration.ofMinutes(1)));
+
+        assertThrows(JwtException.class, () -> verifier.verify(token));
+    }
+
+    private static String token(Instant exp) {
+        return Jwts.builder()
+                .claim("uEmail", "a@example.com")
+                .claim("uRole", "ADMIN")
+                .setIssuedAt(new Date())
+                .setExpiration(Date.from(exp))
+                .signWith(KEY, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
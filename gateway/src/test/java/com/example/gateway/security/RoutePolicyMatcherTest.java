@@ -0,0 +1,77 @@
+package com.example.gateway.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpMethod;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RoutePolicyMatcherTest {
+
+    private RoutePolicyMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        AuthRouteProperties properties = new AuthRouteProperties();
+        properties.setRoutes(List.of(
+                route("/api/users/login", AuthPolicy.PUBLIC),
+                route("/api/users/verify-email/*", AuthPolicy.PUBLIC),
+                adminRoute("/api/boards/admin/**")));
+        matcher = new RoutePolicyMatcher(properties);
+    }
+
+    @Test
+    void matchesCanonicalPaths() {
+        assertEquals(AuthPolicy.PUBLIC, matcher.match(HttpMethod.POST, "/api/users/login").policy());
+        assertEquals(AuthPolicy.PUBLIC, matcher.match(HttpMethod.GET, "/api/users/verify-email/abc").policy());
+        assertEquals(AuthPolicy.ROLE, matcher.match(HttpMethod.POST, "/api/boards/admin/import").policy());
+        assertEquals(AuthPolicy.ROLE, matcher.match(HttpMethod.POST, "/api/boards/admin/import/").policy());
+        assertEquals(AuthPolicy.AUTHENTICATED, matcher.match(HttpMethod.GET, "/api/boards/posts").policy());
+    }
+
+    @Test
+    void decodesPercentEscapesBeforeMatching() {
+        assertEquals(AuthPolicy.ROLE, matcher.match(HttpMethod.POST, "/api/boards/%61dmin/import").policy());
+        assertEquals(AuthPolicy.ROLE, matcher.match(HttpMethod.POST, "/api/%62oards/admin/import").policy());
+        // 인코딩된 공개 경로도 같은 규칙으로 해석
+        assertEquals(AuthPolicy.PUBLIC, matcher.match(HttpMethod.POST, "/api/users/log%69n").policy());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/api/boards//admin/import",
+            "//api/boards/admin/import",
+            "/api/boards/admin;x=1/import",
+            "/api/boards/admin/import;jsessionid=1",
+            "/api/boards/x/../admin/import",
+            "/api/boards/./admin/import",
+            "/api/boards/%2e%2e/boards/admin/import",
+            "/api/boards/admin%2Fimport",
+            "/api/boards/admin%5Cimport",
+            "/api/boards/admin%3Bx=1/import",
+            "/api/boards/%zzadmin/import",
+            "/api/boards/%6",
+            "api/boards/admin/import"
+    })
+    void rejectsNonCanonicalPaths(String path) {
+        assertThrows(IllegalArgumentException.class, () -> matcher.match(HttpMethod.POST, path));
+    }
+
+    private static AuthRouteProperties.Route route(String path, AuthPolicy policy) {
+        AuthRouteProperties.Route route = new AuthRouteProperties.Route();
+        route.setPath(path);
+        route.setPolicy(policy);
+        return route;
+    }
+
+    private static AuthRouteProperties.Route adminRoute(String path) {
+        AuthRouteProperties.Route route = route(path, AuthPolicy.ROLE);
+        route.setRoles(List.of("ADMIN"));
+        return route;
+    }
+}
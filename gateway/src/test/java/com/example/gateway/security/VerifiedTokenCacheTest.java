@@ -0,0 +1,48 @@
+package com.example.gateway.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class VerifiedTokenCacheTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(100, clock);
+
+    @Test
+    void entryExpiresAtTokenExp() {
+        VerifiedToken verified = new VerifiedToken("a@example.com", "USER", clock.millis() + 60_000);
+        cache.put("token", verified);
+
+        assertEquals(verified, cache.get("token"));
+
+        clock.advance(Duration.ofMillis(59_999));
+        assertEquals(verified, cache.get("token"));
+
+        clock.advance(Duration.ofMillis(1));
+        assertNull(cache.get("token"));
+    }
+
+    @Test
+    void doesNotCacheExpiredToken() {
+        cache.put("token", new VerifiedToken("a@example.com", "USER", clock.millis()));
+
+        assertNull(cache.get("token"));
+    }
+
+    @Test
+    void readsDoNotExtendExpiry() {
+        VerifiedToken verified = new VerifiedToken("a@example.com", "USER", clock.millis() + 1_000);
+        cache.put("token", verified);
+
+        clock.advance(Duration.ofMillis(900));
+        assertEquals(verified, cache.get("token"));
+
+        clock.advance(Duration.ofMillis(100));
+        assertNull(cache.get("token"));
+    }
+}